@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.benchmarks;
+
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.redis.RedisDataSource;
+import org.ballerinalang.redis.actions.string.Get;
+
+import java.util.Map;
+
+/**
+ * {@code BenchmarkAction} exposes the command execution path shared by all the actions, from issuing the command to
+ * converting the reply into a Ballerina value, without going through a Ballerina program. Extends {@link Get}, so
+ * that it is a complete action when invoked with a context, and reaches the command methods of the other actions
+ * through their common base class.
+ *
+ * @since 0.8.3
+ */
+public class BenchmarkAction extends Get {
+
+    public BString get(String key, RedisDataSource<String, String> redisDataSource) {
+        return super.get(key, redisDataSource);
+    }
+
+    public BString set(String key, String value, RedisDataSource<String, String> redisDataSource) {
+        return super.set(key, value, redisDataSource);
+    }
+
+    public BMap mGet(RedisDataSource<String, String> redisDataSource, String... keys) {
+        return super.mGet(redisDataSource, keys);
+    }
+
+    public BString hMSet(String key, Map<String, String> fieldValueMap,
+            RedisDataSource<String, String> redisDataSource) {
+        return super.hMSet(key, fieldValueMap, redisDataSource);
+    }
+
+    public BMap<String, BString> hGetAll(String key, RedisDataSource<String, String> redisDataSource) {
+        return super.hGetAll(key, redisDataSource);
+    }
+
+    public BInteger zAdd(String key, BMap<String, BFloat> valueScoreMap,
+            RedisDataSource<String, String> redisDataSource) {
+        return super.zAdd(key, redisDataSource, createScoredValuesFromBMap(valueScoreMap));
+    }
+
+    public BInteger rPush(String key, RedisDataSource<String, String> redisDataSource, String... values) {
+        return super.rPush(key, redisDataSource, values);
+    }
+
+    public BValueArray hKeys(String key, RedisDataSource<String, String> redisDataSource) {
+        return super.hKeys(key, redisDataSource);
+    }
+
+    public BValueArray lRange(String key, long start, long stop, RedisDataSource<String, String> redisDataSource) {
+        return super.lRange(key, start, stop, redisDataSource);
+    }
+
+    public BValueArray zRange(String key, long min, long max, RedisDataSource<String, String> redisDataSource) {
+        return super.zRange(key, min, max, redisDataSource);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.benchmarks;
+
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+
+/**
+ * {@code BenchmarkOptions} builds the client options a data source is initialized with, holding the same defaults as
+ * the {@code Options} record of the module.
+ *
+ * @since 0.8.3
+ */
+public class BenchmarkOptions {
+
+    private BenchmarkOptions() {
+    }
+
+    /**
+     * Creates the options of a client connecting to a standalone server.
+     *
+     * @param connectionPooling      Whether connection pooling is enabled
+     * @param multiplexedConnections The number of multiplexed connections, or zero to disable multiplexing
+     * @return the options as a {@link Struct}
+     */
+    public static Struct create(boolean connectionPooling, int multiplexedConnections) {
+        BMap<String, BValue> poolConfig = new BMap<>();
+        poolConfig.put("maxTotal", new BInteger(8));
+        poolConfig.put("maxIdle", new BInteger(8));
+        poolConfig.put("minIdle", new BInteger(0));
+        poolConfig.put("maxWait", new BInteger(-1));
+        poolConfig.put("testOnBorrow", new BBoolean(false));
+        poolConfig.put("timeBetweenEvictionRuns", new BInteger(-1));
+        poolConfig.put("lifo", new BBoolean(true));
+        poolConfig.put("borrowWaitWarningThreshold", new BInteger(-1));
+
+        BMap<String, BValue> batchConfig = new BMap<>();
+        batchConfig.put("enabled", new BBoolean(false));
+        batchConfig.put("maxSize", new BInteger(32));
+        batchConfig.put("window", new BInteger(100));
+
+        BMap<String, BValue> clusterConfig = new BMap<>();
+        clusterConfig.put("refreshPeriod", new BInteger(-1));
+        clusterConfig.put("adaptiveRefresh", new BBoolean(false));
+        clusterConfig.put("adaptiveRefreshTimeout", new BInteger(30000));
+        clusterConfig.put("reconnectAttempts", new BInteger(5));
+        clusterConfig.put("maxRedirects", new BInteger(5));
+
+        BMap<String, BValue> resourcesConfig = new BMap<>();
+        resourcesConfig.put("shared", new BBoolean(false));
+        resourcesConfig.put("ioThreadPoolSize", new BInteger(-1));
+        resourcesConfig.put("computationThreadPoolSize", new BInteger(-1));
+
+        BMap<String, BValue> blockingConfig = new BMap<>();
+        blockingConfig.put("maxConnections", new BInteger(8));
+        blockingConfig.put("maxIdle", new BInteger(2));
+        blockingConfig.put("maxWait", new BInteger(-1));
+
+        BMap<String, BValue> compressionConfig = new BMap<>();
+        compressionConfig.put("enabled", new BBoolean(false));
+        compressionConfig.put("threshold", new BInteger(1024));
+        compressionConfig.put("level", new BInteger(-1));
+
+        BMap<String, BValue> options = new BMap<>();
+        options.put("clientName", new BString(""));
+        options.put("codec", new BString("StringCodec"));
+        options.put("connectionPooling", new BBoolean(connectionPooling));
+        options.put("isClusterConnection", new BBoolean(false));
+        options.put("asyncMode", new BBoolean(false));
+        options.put("ssl", new BBoolean(false));
+        options.put("startTls", new BBoolean(false));
+        options.put("verifyPeer", new BBoolean(false));
+        options.put("database", new BInteger(-1));
+        options.put("connectionTimeout", new BInteger(-1));
+        options.put("poolConfig", poolConfig);
+        options.put("multiplexedConnections", new BInteger(multiplexedConnections));
+        options.put("connectionSelection", new BString("ROUND_ROBIN"));
+        options.put("batchConfig", batchConfig);
+        options.put("clusterConfig", clusterConfig);
+        options.put("readFrom", new BString("MASTER"));
+        options.put("sentinelMasterId", new BString(""));
+        options.put("resourcesConfig", resourcesConfig);
+        options.put("blockingConfig", blockingConfig);
+        options.put("compressionConfig", compressionConfig);
+        options.put("scripts", new BValueArray(new BArrayType(BTypes.typeString)));
+        return BLangConnectorSPIUtil.toStruct(options);
+    }
+}
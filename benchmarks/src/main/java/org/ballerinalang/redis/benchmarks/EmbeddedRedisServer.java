@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.benchmarks;
+
+import redis.embedded.RedisExecProvider;
+import redis.embedded.RedisServer;
+import redis.embedded.util.OS;
+
+import java.io.IOException;
+
+/**
+ * {@code EmbeddedRedisServer} runs the Redis server executable the tests of the connector run against. Overrides
+ * {@link #redisReadyPattern()} since {@link RedisServer} expects the start up message of an older Redis version.
+ * <p>
+ * The executable is given by the {@code redis.executable} system property. Set {@code redis.host} to benchmark
+ * against a running server instead.
+ *
+ * @since 0.8.3
+ */
+public class EmbeddedRedisServer extends RedisServer {
+
+    private static final String REDIS_READY_PATTERN = ".*Ready to accept connections*";
+    private static final int REDIS_PORT = 6379;
+    private static final String DEFAULT_REDIS_EXECUTABLE =
+            "../component/src/test/resources/redis-executable/redis-server-4.0.7";
+
+    public EmbeddedRedisServer(String executable, Integer port) throws IOException {
+        super(RedisExecProvider.defaultProvider().override(OS.UNIX, executable), port);
+    }
+
+    /**
+     * Starts an embedded server, unless the {@code redis.host} system property names a running server.
+     *
+     * @return the started server, or {@code null} if a running server is used
+     * @throws IOException if the server executable cannot be run
+     */
+    public static EmbeddedRedisServer startIfRequired() throws IOException {
+        if (System.getProperty("redis.host") != null) {
+            return null;
+        }
+        EmbeddedRedisServer redisServer = new EmbeddedRedisServer(
+                System.getProperty("redis.executable", DEFAULT_REDIS_EXECUTABLE), REDIS_PORT);
+        redisServer.start();
+        return redisServer;
+    }
+
+    /**
+     * Returns the host of the server to benchmark against.
+     *
+     * @return the {@code redis.host} system property, or the address of the embedded server
+     */
+    public static String getHost() {
+        return System.getProperty("redis.host", "localhost:" + REDIS_PORT);
+    }
+
+    @Override
+    protected String redisReadyPattern() {
+        return REDIS_READY_PATTERN;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.benchmarks;
+
+import io.lettuce.core.codec.StringCodec;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.redis.RedisDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of converting large replies into Ballerina values, and of converting large Ballerina arguments
+ * into command arguments. Meant to be run with the {@code gc} profiler, whose normalized allocation rate
+ * ({@code gc.alloc.rate.norm}) gives the bytes allocated per reply.
+ *
+ * @since 0.8.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LargeReplyBenchmark {
+
+    private static final String LIST_KEY = "benchmark:large:list";
+    private static final String HASH_KEY = "benchmark:large:hash";
+    private static final String SORTED_SET_KEY = "benchmark:large:zset";
+    private static final String STRING_KEY = "benchmark:large:string";
+
+    @Param({ "100", "10000" })
+    private int size;
+
+    private EmbeddedRedisServer redisServer;
+    private RedisDataSource<String, String> redisDataSource;
+    private BenchmarkAction action;
+    private String[] mGetKeys;
+    private BMap<String, BFloat> members;
+
+    @Setup
+    public void setUp() throws IOException {
+        redisServer = EmbeddedRedisServer.startIfRequired();
+        redisDataSource = new RedisDataSource<>(StringCodec.UTF8, false, false, false);
+        redisDataSource.init(EmbeddedRedisServer.getHost(), "", BenchmarkOptions.create(false, 0));
+        action = new BenchmarkAction();
+
+        String[] values = new String[size];
+        Map<String, String> fields = new HashMap<>();
+        members = new BMap<>();
+        mGetKeys = new String[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = "value" + i;
+            fields.put("field" + i, values[i]);
+            members.put("member" + i, new BFloat(i));
+            mGetKeys[i] = STRING_KEY + ":" + i;
+            // Every other key is missing, so that half of the MGET reply is empty values
+            if (i % 2 == 0) {
+                action.set(mGetKeys[i], values[i], redisDataSource);
+            }
+        }
+        action.rPush(LIST_KEY, redisDataSource, values);
+        action.hMSet(HASH_KEY, fields, redisDataSource);
+        action.zAdd(SORTED_SET_KEY, members, redisDataSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisDataSource.close();
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Benchmark
+    public BValueArray lRange() {
+        return action.lRange(LIST_KEY, 0, -1, redisDataSource);
+    }
+
+    @Benchmark
+    public BMap<String, BString> hGetAll() {
+        return action.hGetAll(HASH_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    public BValueArray hKeys() {
+        return action.hKeys(HASH_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    public BMap mGet() {
+        return action.mGet(redisDataSource, mGetKeys);
+    }
+
+    @Benchmark
+    public BValueArray zRange() {
+        return action.zRange(SORTED_SET_KEY, 0, -1, redisDataSource);
+    }
+
+    @Benchmark
+    public BInteger zAdd() {
+        return action.zAdd(SORTED_SET_KEY, members, redisDataSource);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.benchmarks;
+
+import io.lettuce.core.codec.StringCodec;
+import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.redis.RedisDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of representative actions, from issuing the command to converting the reply into a
+ * Ballerina value, against an {@link EmbeddedRedisServer}. Run with the {@code gc} profiler to measure the allocation
+ * rate, which {@link BenchmarkRunner} enables by default.
+ * <p>
+ * The {@code contended} benchmarks and the {@code readWrite} group issue commands from {@link #CONTENDED_THREADS}
+ * threads at once through the same client, so that the connection modes are compared under contention, that is
+ * threads waiting for a pooled connection against threads sharing a few multiplexed connections.
+ *
+ * @since 0.8.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisActionBenchmark {
+
+    private static final String STRING_KEY = "benchmark:string";
+    private static final String HASH_KEY = "benchmark:hash";
+    private static final String SORTED_SET_KEY = "benchmark:zset";
+    private static final int MGET_KEYS = 10;
+    private static final int HASH_FIELDS = 20;
+    private static final int SORTED_SET_MEMBERS = 100;
+    private static final int VALUE_SIZE = 100;
+    private static final int CONTENDED_THREADS = 8;
+
+    /**
+     * How the client connects to the server.
+     */
+    public enum ConnectionMode {
+        /**
+         * A connection is borrowed from the pool for each command.
+         */
+        POOLED,
+        /**
+         * All commands share a single connection.
+         */
+        NON_POOLED,
+        /**
+         * Commands are multiplexed over a few long-lived connections.
+         */
+        MULTIPLEXED
+    }
+
+    @Param({ "POOLED", "NON_POOLED", "MULTIPLEXED" })
+    private ConnectionMode connectionMode;
+
+    private EmbeddedRedisServer redisServer;
+    private RedisDataSource<String, String> redisDataSource;
+    private BenchmarkAction action;
+    private String value;
+    private String[] mGetKeys;
+
+    @Setup
+    public void setUp() throws IOException {
+        redisServer = EmbeddedRedisServer.startIfRequired();
+        boolean poolingEnabled = connectionMode == ConnectionMode.POOLED;
+        int multiplexedConnections = connectionMode == ConnectionMode.MULTIPLEXED ? 4 : 0;
+        redisDataSource = new RedisDataSource<>(StringCodec.UTF8, false, poolingEnabled, false);
+        redisDataSource.init(EmbeddedRedisServer.getHost(), "",
+                BenchmarkOptions.create(poolingEnabled, multiplexedConnections));
+        action = new BenchmarkAction();
+
+        StringBuilder builder = new StringBuilder(VALUE_SIZE);
+        for (int i = 0; i < VALUE_SIZE; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        value = builder.toString();
+        action.set(STRING_KEY, value, redisDataSource);
+        mGetKeys = new String[MGET_KEYS];
+        for (int i = 0; i < MGET_KEYS; i++) {
+            mGetKeys[i] = STRING_KEY + ":" + i;
+            action.set(mGetKeys[i], value, redisDataSource);
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < HASH_FIELDS; i++) {
+            fields.put("field" + i, value);
+        }
+        action.hMSet(HASH_KEY, fields, redisDataSource);
+        BMap<String, BFloat> members = new BMap<>();
+        for (int i = 0; i < SORTED_SET_MEMBERS; i++) {
+            members.put("member" + i, new BFloat(i));
+        }
+        action.zAdd(SORTED_SET_KEY, members, redisDataSource);
+    }
+
+    @TearDown
+    public void tearDown() {
+        redisDataSource.close();
+        if (redisServer != null) {
+            redisServer.stop();
+        }
+    }
+
+    @Benchmark
+    public BString get() {
+        return action.get(STRING_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    public BString set() {
+        return action.set(STRING_KEY, value, redisDataSource);
+    }
+
+    @Benchmark
+    public BMap mGet() {
+        return action.mGet(redisDataSource, mGetKeys);
+    }
+
+    @Benchmark
+    public BMap<String, BString> hGetAll() {
+        return action.hGetAll(HASH_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    public BValueArray zRange() {
+        return action.zRange(SORTED_SET_KEY, 0, -1, redisDataSource);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public BString getContended() {
+        return action.get(STRING_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    @Threads(CONTENDED_THREADS)
+    public BMap mGetContended() {
+        return action.mGet(redisDataSource, mGetKeys);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(CONTENDED_THREADS - 2)
+    public BString readWriteGet() {
+        return action.get(STRING_KEY, redisDataSource);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public BString readWriteSet() {
+        return action.set(STRING_KEY, value, redisDataSource);
+    }
+}
@@ -109,6 +109,12 @@ public type Client client object {
     # + return - The value of the key, or nil when key does not exist or `error` if an error occurs
     public remote function get(string key) returns (string?|error) =  external;
 
+    # Get the value of a key as raw bytes.
+    #
+    # + key - The key
+    # + return - The value of the key, or nil when key does not exist or `error` if an error occurs
+    public remote function getBytes(string key) returns (byte[]?|error) =  external;
+
     # Increment the integer value of a key by one.
     #
     # + key - The key
@@ -135,6 +141,13 @@ public type Client client object {
     # + return - Array of values at the specified keys or `error` if an error occurs
     public remote function mGet(string[] keys) returns (string[]|error) =  external;
 
+    # Get the values of all the given keys as raw bytes.
+    #
+    # + keys - The keys of which the values need to be retrieved
+    # + return - Map of the values at the specified keys, excluding the keys which do not exist, or `error` if an
+    #            error occurs
+    public remote function mGetBytes(string[] keys) returns (map<byte[]>|error) =  external;
+
     # Set multiple keys to multiple values.
     #
     # + keyValueMap - A map of key-value pairs to be set
@@ -199,6 +212,13 @@ public type Client client object {
     # + return - A string with the value `OK` if the operation was successful or `error` if an error occurs
     public remote function setVal(string key, string value) returns (string|error) = external;
 
+    # Set the value of a key to raw bytes.
+    #
+    # + key - The key
+    # + value - The value to be set
+    # + return - A string with the value `OK` if the operation was successful or `error` if an error occurs
+    public remote function setBytes(string key, byte[] value) returns (string|error) = external;
+
     //list operations
 
     # Prepend one or multiple values to a list.
@@ -239,6 +259,16 @@ public type Client client object {
     #         popped element, or `error` if an error occurs
     public remote function bRPop(int timeOut, string[] keys) returns (map<any>?|error) = external;
 
+    # Remove the last element in a list, append it to another list and return it, or block until one is available.
+    #
+    # + timeOut - The timeout in seconds
+    # + source - The source key
+    # + destination - The destination key
+    # + return - The element being popped and pushed, `nil` when no element could be popped and the timeout expired
+    #            or `error` if an error occurs
+    public remote function bRPopLPush(int timeOut, string source, string destination)
+        returns (string?|error) = external;
+
     # Get an element from a list by its index.
     #
     # + key - The key
@@ -377,6 +407,23 @@ public type Client client object {
     # + return - Array of all members in the set or `error` if an error occurs
     public remote function sMembers(string key) returns (string[]|error) = external;
 
+    # Incrementally iterate over the members of a set.
+    #
+    # + key - The key of the set
+    # + cursor - The cursor returned by the previous call, or `"0"` to start a new iteration
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - The members of this step and the cursor of the next step or `error` if an error occurs
+    public remote function sScan(string key, string cursor, ScanOptions options) returns (ScanResult|error) = external;
+
+    # Create an iterator over the members of a set, which reads the set in steps through `SSCAN`.
+    #
+    # + key - The key of the set
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - A `ScanIterator` over the members of the set
+    public function sScanIterator(string key, ScanOptions options = {}) returns ScanIterator {
+        return new(self, key, options);
+    }
+
     # Move a member from one set to another.
     #
     # + source - The source key
@@ -579,6 +626,24 @@ public type Client client object {
     # + return - Number of members of the resulting sorted set or `error` if an error occurs
     public remote function zUnionStore(string destination, string[] keys) returns (int|error) = external;
 
+    # Incrementally iterate over the members of a sorted set and their scores.
+    #
+    # + key - The key of the sorted set
+    # + cursor - The cursor returned by the previous call, or `"0"` to start a new iteration
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - The members and scores of this step and the cursor of the next step or `error` if an error occurs
+    public remote function zScan(string key, string cursor, ScanOptions options)
+                               returns (SortedSetScanResult|error) = external;
+
+    # Create an iterator over the members of a sorted set, which reads the sorted set in steps through `ZSCAN`.
+    #
+    # + key - The key of the sorted set
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - A `SortedSetScanIterator` over the members of the sorted set and their scores
+    public function zScanIterator(string key, ScanOptions options = {}) returns SortedSetScanIterator {
+        return new(self, key, options);
+    }
+
     //Hash Commands
 
     # Delete one or more hash fields.
@@ -604,6 +669,13 @@ public type Client client object {
     # + return - The value of the field or `error` if an error occurs
     public remote function hGet(string key, string field) returns (string|error) = external;
 
+    # Get the value of a hash field as raw bytes.
+    #
+    # + key - The key of the hash
+    # + field - The field
+    # + return - The value of the field, or nil when the field or key does not exist or `error` if an error occurs
+    public remote function hGetBytes(string key, string field) returns (byte[]?|error) = external;
+
     # Get the all values of a hash.
     #
     # + key - The key of the hash
@@ -661,6 +733,15 @@ public type Client client object {
     #         field already exists in the hash and the value was updated, or `error` if an error occurs
     public remote function hSet(string key, string field, string value) returns (boolean|error) = external;
 
+    # Set the value of a hash field to raw bytes.
+    #
+    # + key - The key of the hash
+    # + field - The field
+    # + value - The value to be set to the field
+    # + return - boolean `true` if field is a new field in the hash and value was set. boolean false if
+    #         field already exists in the hash and the value was updated, or `error` if an error occurs
+    public remote function hSetBytes(string key, string field, byte[] value) returns (boolean|error) = external;
+
     # Set the string value of a hash field, only if the field does not exist.
     #
     # + key - The key of the hash
@@ -684,6 +765,24 @@ public type Client client object {
     # + return - Array of values in the hash, or an empty array when key does not exist or `error` if an error occurs
     public remote function hVals(string key) returns (string[]|error) = external;
 
+    # Incrementally iterate over the fields of a hash and their values.
+    #
+    # + key - The key of the hash
+    # + cursor - The cursor returned by the previous call, or `"0"` to start a new iteration
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - The fields and values of this step and the cursor of the next step or `error` if an error occurs
+    public remote function hScan(string key, string cursor, ScanOptions options)
+                               returns (HashScanResult|error) = external;
+
+    # Create an iterator over the fields of a hash, which reads the hash in steps through `HSCAN`.
+    #
+    # + key - The key of the hash
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - A `HashScanIterator` over the fields of the hash and their values
+    public function hScanIterator(string key, ScanOptions options = {}) returns HashScanIterator {
+        return new(self, key, options);
+    }
+
     //Key Commands
 
     # Delete one or more keys.
@@ -692,6 +791,12 @@ public type Client client object {
     # + return - The number of keys that were removed or `error` if an error occurs
     public remote function del(string[] keys) returns (int|error) = external;
 
+    # Return a serialized version of the value stored at the specified key.
+    #
+    # + key - The key
+    # + return - The serialized value, or nil when key does not exist or `error` if an error occurs
+    public remote function dump(string key) returns (byte[]?|error) = external;
+
     # Determine how many keys exist.
     #
     # + keys - The keys of which existence to be found out
@@ -712,6 +817,23 @@ public type Client client object {
     # + return - Array of keys matching the given pattern or `error` if an error occurs
     public remote function keys(string pattern) returns (string[]|error) = external;
 
+    # Incrementally iterate over the keys of the database. Unlike `keys`, each step only examines a few keys, so that
+    # the server is not blocked while large keyspaces are iterated. On cluster connections a step scans several
+    # master nodes concurrently, and the iteration covers the keys of all the master nodes.
+    #
+    # + cursor - The cursor returned by the previous call, or `"0"` to start a new iteration
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - The keys of this step and the cursor of the next step or `error` if an error occurs
+    public remote function scan(string cursor, ScanOptions options) returns (ScanResult|error) = external;
+
+    # Create an iterator over the keys of the database, which reads the keyspace in steps through `SCAN`.
+    #
+    # + options - The `MATCH` pattern and `COUNT` hint of the iteration
+    # + return - A `ScanIterator` over the keys of the database
+    public function scanIterator(ScanOptions options = {}) returns ScanIterator {
+        return new(self, (), options);
+    }
+
     # Move a key to another database.
     #
     # + key - The key to be moved
@@ -801,6 +923,123 @@ public type Client client object {
     # + return - A string with the value `PONG` if the operation was successful or `error` if an error occurs
     public remote function ping() returns (string|error) = external;
 
+    // Pub/Sub
+    # Post a message to a channel. The message is received by the services attached to the listeners subscribed to
+    # the channel.
+    #
+    # + channel - The channel
+    # + message - The message
+    # + return - The number of clients which received the message or `error` if an error occurs
+    public remote function publish(string channel, string message) returns (int|error) = external;
+
+    // Streams
+    # Append an entry to a stream, creating the stream if it does not exist.
+    #
+    # + key - The key of the stream
+    # + fields - The field-value pairs of the entry
+    # + id - The ID of the entry, `*` to let the server generate it
+    # + maxLength - The length the stream is trimmed to, approximately, or a negative value to not trim it
+    # + return - The ID of the added entry or `error` if an error occurs
+    public remote function xAdd(string key, map<string> fields, string id = "*", int maxLength = -1)
+        returns (string|error) = external;
+
+    # Get the entries of a stream within a range of IDs.
+    #
+    # + key - The key of the stream
+    # + startId - The smallest ID of the range, `-` for the smallest ID of the stream
+    # + endId - The largest ID of the range, `+` for the largest ID of the stream
+    # + count - The maximum number of entries to return, or a negative value to return all of them
+    # + return - The entries in the range or `error` if an error occurs
+    public remote function xRange(string key, string startId = "-", string endId = "+", int count = -1)
+        returns (StreamEntry[]|error) = external;
+
+    # Get the number of entries of a stream.
+    #
+    # + key - The key of the stream
+    # + return - The number of entries of the stream or `error` if an error occurs
+    public remote function xLen(string key) returns (int|error) = external;
+
+    // Scripting
+    # Evaluate a Lua script. A script registered through `scriptLoad()` or the `scripts` option is run through
+    # `EVALSHA`, so that only its digest is sent to the server.
+    #
+    # + script - The Lua script
+    # + keys - The keys accessed by the script, available to it as `KEYS`
+    # + args - The arguments of the script, available to it as `ARGV`
+    # + return - The reply of the script, an `int` for an integer reply, a `string` for a bulk or status reply, an
+    #            `any[]` for a multi-bulk reply, nil for a nil reply, or `error` if an error occurs
+    public remote function eval(string script, string[] keys = [], string[] args = []) returns (any|error) = external;
+
+    # Evaluate a Lua script cached on the server by its SHA1 digest. If the script was registered through
+    # `scriptLoad()` or the `scripts` option and the node the command reaches does not have it cached, such as after
+    # a failover, the script is evaluated through `EVAL` instead.
+    #
+    # + sha1 - The SHA1 digest of the script
+    # + keys - The keys accessed by the script, available to it as `KEYS`
+    # + args - The arguments of the script, available to it as `ARGV`
+    # + return - The reply of the script, an `int` for an integer reply, a `string` for a bulk or status reply, an
+    #            `any[]` for a multi-bulk reply, nil for a nil reply, or `error` if an error occurs
+    public remote function evalSha(string sha1, string[] keys = [], string[] args = []) returns (any|error) = external;
+
+    # Load a Lua script into the script cache of the master, or of every master of a cluster, and register it with the
+    # client. Replicas receive the script from their master through replication.
+    #
+    # + script - The Lua script
+    # + return - The SHA1 digest of the script or `error` if an error occurs
+    public remote function scriptLoad(string script) returns (string|error) = external;
+
+    // Pipelining
+    # Create a pipeline on a dedicated connection. Commands issued on the pipeline are queued and written to the
+    # server together when the pipeline is flushed.
+    #
+    # + return - A `Pipeline` on which commands can be queued or `error` if an error occurs
+    public remote function pipeline() returns (Pipeline|error) {
+        Pipeline pipeline = new;
+        check initPipeline(self, pipeline);
+        return pipeline;
+    }
+
+    // Transactions
+    # Start a transaction on a connection of its own. The given keys are watched, so that the transaction is aborted
+    # if any of them is modified before it is executed.
+    #
+    # + watchedKeys - The keys to be watched
+    # + timeout - The time in milliseconds within which the transaction must be executed or discarded. A transaction
+    #             which is still open after this time is discarded and its connection closed, so that an abandoned
+    #             transaction does not hold a connection. A non-positive value never discards the transaction
+    # + return - A `Transaction` on which commands can be queued or `error` if an error occurs
+    public remote function multi(string[] watchedKeys = [], int timeout = 60000) returns (Transaction|error) {
+        Transaction redisTransaction = new;
+        check initTransaction(self, redisTransaction, watchedKeys, timeout);
+        return redisTransaction;
+    }
+
+    // Statistics
+    # Get the batch size statistics of the commands flushed through auto batching.
+    #
+    # + return - The batch size statistics of the client
+    public remote function getBatchStats() returns BatchStats = external;
+
+    # Get the topology statistics of a cluster connection.
+    #
+    # + return - The topology statistics of the client
+    public remote function getClusterStats() returns ClusterStats = external;
+
+    # Get the statistics of the connection pool. All the statistics are zero when connection pooling is disabled.
+    #
+    # + return - The connection pool statistics of the client
+    public remote function getPoolStats() returns PoolStats = external;
+
+    # Get the latencies and error counts of the commands executed by the client.
+    #
+    # + return - The command metrics of the client
+    public remote function getCommandMetrics() returns CommandMetrics = external;
+
+    # Get the command metrics of the client in the Prometheus text exposition format.
+    #
+    # + return - The command metrics of the client as Prometheus text
+    public remote function getPrometheusMetrics() returns string = external;
+
     # Stops the registered service.
     public function stop() {
         close(self);
@@ -814,9 +1053,30 @@ function close (Client redisClient) = external;
 
 function initClient(Client redisClient, ClientEndpointConfiguration clientEndpointConfig) = external;
 
+# An internal function used by clients to open the dedicated connection of a pipeline.
+#
+# + redisClient - Client object that encapsulates the connection/connection pool
+# + pipeline - The pipeline to be initialized
+# + return - `error` if the connection could not be opened
+function initPipeline(Client redisClient, Pipeline pipeline) returns error? = external;
+
+# An internal function used by clients to obtain the connection of a transaction and watch the given keys.
+#
+# + redisClient - Client object that encapsulates the connection/connection pool
+# + redisTransaction - The transaction to be initialized
+# + watchedKeys - The keys to be watched
+# + timeout - The time in milliseconds after which the transaction is discarded if it is still open
+# + return - `error` if the connection could not be obtained or the keys could not be watched
+function initTransaction(Client redisClient, Transaction redisTransaction, string[] watchedKeys, int timeout)
+             returns error? = external;
+
 # The Client endpoint configuration for Redis databases.
 #
-# + host - The host of the Redis database
+# + host - The host of the Redis database, as `host:port`, or the path of a Unix domain socket, as `/path/to/socket`
+#   or `redis-socket:///path/to/socket`. Unix domain sockets require the native epoll transport, which is used on
+#   Linux when available. Multiple comma separated hosts may be given for a cluster connection, or for a
+#   master/replica setup when the connection is not a cluster connection. When `sentinelMasterId` is set, these are
+#   the hosts of the sentinels
 # + password - Password for the database connection
 # + options - Properties for the connection configuration
 public type ClientEndpointConfiguration record {|
@@ -828,22 +1088,315 @@ public type ClientEndpointConfiguration record {|
 # Connection options for Redis Client Endpoint.
 #
 # + clientName - The clientName of the connection
+# + codec - The codec used to transcode string keys and values. Values read and written through the `byte[]` functions
+#   are not transcoded
 # + connectionPooling - Boolean value depending on whether the connection
 #   pooling is enabled or not
 # + isClusterConnection - Whether to enable cluster connection or not
+# + asyncMode - Whether to execute commands asynchronously, releasing the calling worker while waiting for the reply
 # + ssl - Boolean value depending on whether SSL is enabled or not
 # + startTls - Boolean value depending on whether startTLS is enabled or not
 # + verifyPeer - Boolean value depending on whether peer verification is
 #   enabled or not
 # + database - The database to be used with the connection
 # + connectionTimeout - The timeout value for the connection
+# + poolConfig - Properties for the connection pool, used when connection pooling is enabled
+# + multiplexedConnections - The number of long-lived connections shared by all callers. When positive, commands are
+#   multiplexed over these connections instead of borrowing a connection from the pool for each command. The pool, if
+#   enabled, is then only used for transactions. Blocking commands always use connections of their own, see
+#   `BlockingConfig`
+# + connectionSelection - How a multiplexed connection is chosen for a command
+# + batchConfig - Properties for coalescing the commands issued concurrently on a shared connection into a single
+#   write. Applies to the shared connection used when neither connection pooling nor multiplexing is enabled, and to
+#   the multiplexed connections
+# + clusterConfig - Properties for keeping the topology of a cluster connection up to date
+# + readFrom - The nodes from which read-only commands are served on cluster connections and master/replica setups.
+#   With a setting other than `MASTER` a standalone connection to a single host discovers the replicas of the host
+# + sentinelMasterId - The name of the master monitored by the sentinels given as the hosts. When set, the client
+#   connects to the master and the replicas announced by the sentinels, and follows their failovers
+# + resourcesConfig - Properties of the event loops and threads used by the client
+# + blockingConfig - Properties of the connections dedicated to blocking commands such as `bLPop`
+# + compressionConfig - Properties for compressing large values before they are written. Values read and written
+#   through the `byte[]` functions are not compressed or decompressed. `append`, `getRange`, `setRange` and `strln`
+#   operate on the stored bytes of a value, so they must not be used on values which may be stored compressed
+# + scripts - Lua scripts loaded into the script cache of the master, or of every master of a cluster, when the client
+#   connects, and registered with the client as through `scriptLoad()`
 public type Options record {|
     string clientName = "";
+    Codec codec = STRING_CODEC;
     boolean connectionPooling = false;
     boolean isClusterConnection = false;
+    boolean asyncMode = false;
     boolean ssl = false;
     boolean startTls = false;
     boolean verifyPeer = false;
     int database = -1;
     int connectionTimeout = -1;
+    PoolConfig poolConfig = {};
+    int multiplexedConnections = 0;
+    ConnectionSelection connectionSelection = ROUND_ROBIN;
+    BatchConfig batchConfig = {};
+    ClusterConfig clusterConfig = {};
+    ReadFrom readFrom = MASTER;
+    string sentinelMasterId = "";
+    ResourcesConfig resourcesConfig = {};
+    BlockingConfig blockingConfig = {};
+    CompressionConfig compressionConfig = {};
+    string[] scripts = [];
+|};
+
+# Properties of the connections dedicated to the blocking commands (i.e. `bLPop`, `bRPop` and `bRPopLPush`) of a
+# Redis Client Endpoint. Blocking commands are issued on connections of their own, so that a command waiting for an
+# element neither holds up other commands nor takes up a pooled connection. Connections are opened on demand. When
+# connection pooling is disabled, transactions also hold one of these connections until they are executed or
+# discarded.
+#
+# + maxConnections - The maximum number of blocking commands and transactions holding a connection at a given time
+# + maxIdle - The maximum number of idle connections kept for blocking commands
+# + maxWait - The maximum time in milliseconds to wait for a connection when `maxConnections` blocking commands are
+#   already waiting. A negative value waits indefinitely
+public type BlockingConfig record {|
+    int maxConnections = 8;
+    int maxIdle = 2;
+    int maxWait = -1;
+|};
+
+# Auto batching properties for Redis Client Endpoint.
+#
+# + enabled - Whether commands issued concurrently on a shared connection are flushed to the server in batches
+# + maxSize - The number of queued commands at which a batch is flushed without waiting for the batch window to elapse
+# + window - The maximum time in microseconds a command waits for the other commands of its batch
+public type BatchConfig record {|
+    boolean enabled = false;
+    int maxSize = 32;
+    int window = 100;
+|};
+
+# Value compression properties for Redis Client Endpoint. Values are encoded as UTF-8 when compression is enabled,
+# as compressed values are marked by a header which never occurs in UTF-8. Commands which operate on the stored
+# bytes of a value, i.e. `APPEND`, `GETRANGE`, `SETRANGE`, `STRLEN` and `HSTRLEN`, see the compressed bytes of a
+# compressed value. Only string and hash values are compressed. List, set and sorted set members are compared by the
+# server, so they are written uncompressed, as are the pivots and lexicographical bounds they are compared with.
+# A compressed value is read back only if it inflates to the length recorded when it was written.
+#
+# + enabled - Whether values are compressed with Deflate before they are written and decompressed when they are read
+# + threshold - The minimum size in bytes of an encoded value for it to be compressed
+# + level - The Deflate compression level from 0 to 9, or -1 for the default level
+public type CompressionConfig record {|
+    boolean enabled = false;
+    int threshold = 1024;
+    int level = -1;
+|};
+
+# Event loop and thread properties for Redis Client Endpoint.
+#
+# + shared - Whether the event loops, computation threads and timers are shared with the other clients of the
+#   process which opt in to sharing them. Sharing is opt-in, so by default each client has resources of its own.
+#   Shared resources are shut down when the last client using them is stopped
+# + ioThreadPoolSize - The number of I/O threads. A non-positive value uses the number of available processors, and at
+#   least 3. For shared resources this only takes effect for the first client which creates them
+# + computationThreadPoolSize - The number of computation threads. A non-positive value uses the number of available
+#   processors, and at least 3. For shared resources this only takes effect for the first client which creates them
+public type ResourcesConfig record {|
+    boolean shared = false;
+    int ioThreadPoolSize = -1;
+    int computationThreadPoolSize = -1;
+|};
+
+# Cluster topology properties for Redis Client Endpoint.
+#
+# + refreshPeriod - The interval in milliseconds at which the cluster topology is refreshed. A non-positive value
+#   disables periodic refreshes
+# + adaptiveRefresh - Whether the cluster topology is refreshed as soon as a `MOVED` or `ASK` redirect is received or
+#   a node connection keeps reconnecting
+# + adaptiveRefreshTimeout - The minimum time in milliseconds between two adaptive refreshes
+# + reconnectAttempts - The number of reconnect attempts of a node connection after which an adaptive refresh is
+#   triggered
+# + maxRedirects - The maximum number of `MOVED` or `ASK` redirects followed by a command
+public type ClusterConfig record {|
+    int refreshPeriod = -1;
+    boolean adaptiveRefresh = false;
+    int adaptiveRefreshTimeout = 30000;
+    int reconnectAttempts = 5;
+    int maxRedirects = 5;
+|};
+
+# Topology statistics of a cluster connection.
+#
+# + topologyChanges - The number of topology refreshes which found the topology of the cluster changed, such as after
+#                     a slot migration or a failover. With shared resources, the refreshes of all the cluster clients
+#                     sharing them are counted
+public type ClusterStats record {|
+    int topologyChanges;
+|};
+
+# Latencies of a command type on a Redis node, in microseconds.
+#
+# + command - The command type
+# + node - The node the commands were sent to, as `host:port`
+# + count - The number of completed commands
+# + min - The lowest latency
+# + max - The highest latency
+# + p50 - The median latency
+# + p99 - The 99th percentile latency
+# + p999 - The 99.9th percentile latency
+public type CommandLatency record {|
+    string command;
+    string node;
+    int count;
+    int min;
+    int max;
+    float p50;
+    float p99;
+    float p999;
+|};
+
+# Command metrics of a Redis Client Endpoint.
+#
+# + latencies - The latencies per command type and node. With shared resources, the latencies of the commands of all
+#               the clients sharing them are reported
+# + errors - The number of failed commands of this client, keyed by command type as in `latencies`
+public type CommandMetrics record {|
+    CommandLatency[] latencies;
+    map<int> errors;
+|};
+
+# Connection pool statistics of a Redis Client Endpoint.
+#
+# + active - The number of connections currently borrowed from the pool
+# + idle - The number of idle connections in the pool
+# + waiters - The number of callers currently waiting for a connection
+# + meanBorrowWait - The mean time in milliseconds callers waited for a connection, over the recent borrows
+# + maxBorrowWait - The longest time in milliseconds a caller waited for a connection
+# + created - The number of connections created by the pool
+# + destroyed - The number of connections destroyed by the pool
+# + borrowTimeouts - The number of times a caller gave up waiting for a connection after `maxWait`
+# + slowBorrows - The number of times a caller waited longer than `borrowWaitWarningThreshold`
+public type PoolStats record {|
+    int active;
+    int idle;
+    int waiters;
+    int meanBorrowWait;
+    int maxBorrowWait;
+    int created;
+    int destroyed;
+    int borrowTimeouts;
+    int slowBorrows;
+|};
+
+# Batch size statistics of a Redis Client Endpoint.
+#
+# + batches - The number of batches flushed
+# + commands - The number of commands flushed in batches
+# + meanBatchSize - The mean number of commands in a batch
+# + maxBatchSize - The largest number of commands flushed in a single batch
+public type BatchStats record {|
+    int batches;
+    int commands;
+    float meanBatchSize;
+    int maxBatchSize;
+|};
+
+# Options of a cursor based iteration.
+#
+# + match - Only the elements matching this glob-style pattern are returned. An empty pattern matches every element
+# + count - A hint of the number of elements the server examines in a step. A non-positive value uses the server
+#   default of 10. On cluster connections the hint applies to each node
+# + parallelism - The maximum number of master nodes scanned concurrently in a step of a `SCAN` on a cluster
+#   connection
+public type ScanOptions record {|
+    string match = "";
+    int count = -1;
+    int parallelism = 4;
+|};
+
+# A step of an iteration over the keys of a database or the members of a set.
+#
+# + cursor - The cursor to be passed to the next step
+# + finished - Whether the iteration is complete, in which case there is no next step
+# + values - The keys or members returned by this step. A key or member may be returned in more than one step
+public type ScanResult record {|
+    string cursor;
+    boolean finished;
+    string[] values;
+|};
+
+# A step of an iteration over the fields of a hash.
+#
+# + cursor - The cursor to be passed to the next step
+# + finished - Whether the iteration is complete, in which case there is no next step
+# + entries - The fields returned by this step and their values
+public type HashScanResult record {|
+    string cursor;
+    boolean finished;
+    map<string> entries;
+|};
+
+# A step of an iteration over the members of a sorted set.
+#
+# + cursor - The cursor to be passed to the next step
+# + finished - Whether the iteration is complete, in which case there is no next step
+# + entries - The members returned by this step and their scores
+public type SortedSetScanResult record {|
+    string cursor;
+    boolean finished;
+    map<float> entries;
+|};
+
+# Transcodes strings using the default charset of the platform.
+public const STRING_CODEC = "StringCodec";
+# Transcodes strings using UTF-8.
+public const UTF8_STRING_CODEC = "Utf8StringCodec";
+
+# The codec used to transcode string keys and values.
+public type Codec STRING_CODEC|UTF8_STRING_CODEC;
+
+# Selects multiplexed connections in turn.
+public const ROUND_ROBIN = "ROUND_ROBIN";
+# Selects the multiplexed connection with the fewest commands awaiting a reply.
+public const LEAST_IN_FLIGHT = "LEAST_IN_FLIGHT";
+
+# The strategy used to choose a multiplexed connection for a command.
+public type ConnectionSelection ROUND_ROBIN|LEAST_IN_FLIGHT;
+
+# Reads from the master only.
+public const MASTER = "MASTER";
+# Reads from the master, or from a replica if the master is not available.
+public const MASTER_PREFERRED = "MASTER_PREFERRED";
+# Reads from replicas only.
+public const REPLICA = "REPLICA";
+# Reads from a replica, or from the master if no replica is available.
+public const REPLICA_PREFERRED = "REPLICA_PREFERRED";
+# Reads from the node with the lowest latency, master or replica.
+public const NEAREST = "NEAREST";
+# Reads from any node, master or replica.
+public const ANY = "ANY";
+
+# The nodes from which read-only commands are served.
+public type ReadFrom MASTER|MASTER_PREFERRED|REPLICA|REPLICA_PREFERRED|NEAREST|ANY;
+
+# Connection pool properties for Redis Client Endpoint.
+#
+# + maxTotal - The maximum number of connections that can be allocated by the pool at a given time
+# + maxIdle - The maximum number of idle connections in the pool
+# + minIdle - The minimum number of idle connections to be maintained in the pool. This takes effect only if
+#   `timeBetweenEvictionRuns` is positive
+# + maxWait - The maximum time in milliseconds to wait for a connection when the pool is exhausted. A negative value
+#   waits indefinitely
+# + testOnBorrow - Whether connections are validated before being borrowed from the pool
+# + timeBetweenEvictionRuns - The time in milliseconds between runs of the idle connection evictor. A non-positive
+#   value disables the evictor
+# + lifo - Whether idle connections are borrowed in last-in-first-out order (`true`) or first-in-first-out order
+#   (`false`)
+# + borrowWaitWarningThreshold - The time in milliseconds a caller may wait for a connection from the pool before a
+#   warning is logged. A non-positive value disables the warning
+public type PoolConfig record {|
+    int maxTotal = 8;
+    int maxIdle = 8;
+    int minIdle = 0;
+    int maxWait = -1;
+    boolean testOnBorrow = false;
+    int timeBetweenEvictionRuns = -1;
+    boolean lifo = true;
+    int borrowWaitWarningThreshold = -1;
 |};
@@ -0,0 +1,153 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Represents a Redis Pub/Sub listener. The services attached to the listener receive the messages published to the
+# channels and channel patterns given in their `ServiceConfig` annotation through their `onMessage` resource, which
+# takes a `Message`. The subscriptions are made on a connection of their own, opened when the listener starts.
+public type Listener object {
+    *AbstractListener;
+
+    private Client redisClient;
+
+    # Gets called when the listener is being initialized during the module initialization.
+    #
+    # + config - The configurations of the listener
+    public function __init(ListenerConfiguration config) {
+        self.redisClient = new({ host: config.host, password: config.password, options: config.options });
+        initListener(self, self.redisClient, config.dispatchConfig);
+    }
+
+    # Gets called when a service is attached to the listener.
+    #
+    # + s - The service to be attached
+    # + annotationData - The annotations of the service
+    # + return - `error` if the service does not have a `ServiceConfig` annotation or an `onMessage` resource
+    public function __attach(service s, map<any> annotationData) returns error? {
+        return registerListenerService(self, s);
+    }
+
+    # Gets called when the listener is started, subscribing to the channels and patterns of the attached services.
+    #
+    # + return - `error` if the subscriptions could not be made
+    public function __start() returns error? {
+        return startListener(self);
+    }
+
+    # Gets called when the listener is stopped, closing its subscriptions.
+    #
+    # + return - `error` if an error occurs
+    public function __stop() returns error? {
+        var result = stopListener(self);
+        self.redisClient.stop();
+        return result;
+    }
+
+    # Get the message dispatch statistics of the listener.
+    #
+    # + return - The dispatch statistics of the listener
+    public function getStats() returns ListenerStats = external;
+};
+
+# The configurations of a Redis Pub/Sub listener.
+#
+# + host - Host address of the Redis database, or the host addresses of the nodes of a cluster
+# + password - Password for the database connection
+# + options - Connection options, as for a `Client`
+# + dispatchConfig - Properties of the dispatch of the received messages to the services
+public type ListenerConfiguration record {|
+    string host = "";
+    string password = "";
+    Options options = {};
+    DispatchConfig dispatchConfig = {};
+|};
+
+# Properties of the dispatch of the messages received by a Redis Pub/Sub listener. Redis does not hold back messages
+# for slow subscribers, so messages received while `queueCapacity` messages are already waiting are dropped.
+#
+# + maxConcurrentDispatches - The maximum number of messages processed by the services at a time. With a value of 1
+#   the messages are processed one at a time in the order in which they were received
+# + queueCapacity - The maximum number of messages waiting to be processed
+public type DispatchConfig record {|
+    int maxConcurrentDispatches = 8;
+    int queueCapacity = 1024;
+|};
+
+# Configuration of a service attached to a Redis Pub/Sub listener.
+#
+# + channels - The channels subscribed to
+# + patterns - The channel patterns subscribed to, such as `news.*`
+public type ServiceConfigData record {|
+    string[] channels = [];
+    string[] patterns = [];
+|};
+
+# The annotation which is used to configure the subscriptions of a service attached to a Redis Pub/Sub listener.
+public annotation<service> ServiceConfig ServiceConfigData;
+
+# A message received by a Redis Pub/Sub listener.
+#
+# + channel - The channel the message was published to
+# + pattern - The pattern which matched the channel, or an empty string for a message of a subscribed channel
+# + message - The message
+public type Message record {|
+    string channel;
+    string pattern;
+    string message;
+|};
+
+# Message dispatch statistics of a Redis Pub/Sub listener.
+#
+# + received - The number of messages received
+# + dispatched - The number of messages processed by the services
+# + failed - The number of messages whose processing returned an error or panicked
+# + dropped - The number of messages dropped as `queueCapacity` messages were waiting to be processed
+# + pending - The number of messages currently waiting to be processed
+# + maxPending - The highest number of messages which have been waiting to be processed at a time
+public type ListenerStats record {|
+    int received;
+    int dispatched;
+    int failed;
+    int dropped;
+    int pending;
+    int maxPending;
+|};
+
+# An internal function used by listeners to create their subscriber.
+#
+# + redisListener - The listener to be initialized
+# + redisClient - The client through which the subscriptions are made
+# + dispatchConfig - Properties of the dispatch of the received messages to the services
+function initListener(Listener redisListener, Client redisClient, DispatchConfig dispatchConfig) = external;
+
+# An internal function used by listeners to attach a service.
+#
+# + redisListener - The listener to which the service is attached
+# + serviceType - The service to be attached
+# + return - `error` if the service does not have a `ServiceConfig` annotation or an `onMessage` resource
+function registerListenerService(Listener redisListener, service serviceType) returns error? = external;
+
+# An internal function used by listeners to make their subscriptions.
+#
+# + redisListener - The listener to be started
+# + return - `error` if the subscriptions could not be made
+function startListener(Listener redisListener) returns error? = external;
+
+# An internal function used by listeners to close their subscriptions.
+#
+# + redisListener - The listener to be stopped
+# + return - `error` if an error occurs
+function stopListener(Listener redisListener) returns error? = external;
@@ -0,0 +1,86 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Represents a Redis pipeline, obtained through `Client.pipeline()`. Commands issued on a pipeline are queued on a
+# dedicated connection and are not written to the server until the pipeline is flushed, so that many commands share
+# a single network round trip.
+# The connection is closed when the pipeline is closed, or otherwise when the client is stopped.
+public type Pipeline object {
+
+    # Queue setting the string value of a key.
+    #
+    # + key - The key
+    # + value - The value to be set
+    public function setVal(string key, string value) = external;
+
+    # Queue getting the value of a key.
+    #
+    # + key - The key
+    public function get(string key) = external;
+
+    # Queue deleting one or more keys.
+    #
+    # + keys - Keys to be deleted
+    public function del(string[] keys) = external;
+
+    # Queue incrementing the integer value of a key by one.
+    #
+    # + key - The key
+    public function incr(string key) = external;
+
+    # Queue setting a key's time to live in seconds.
+    #
+    # + key - The key
+    # + seconds - Expiry in seconds
+    public function expire(string key, int seconds) = external;
+
+    # Queue setting the string value of a hash field.
+    #
+    # + key - The key
+    # + field - The field
+    # + value - The value to be set to the field
+    public function hSet(string key, string field, string value) = external;
+
+    # Queue getting the value of a hash field.
+    #
+    # + key - The key
+    # + field - The field
+    public function hGet(string key, string field) = external;
+
+    # Queue prepending one or multiple values to a list.
+    #
+    # + key - The key
+    # + values - The values to be prepended
+    public function lPush(string key, string[] values) = external;
+
+    # Queue adding one or more members to a set.
+    #
+    # + key - The key
+    # + values - The values to be added
+    public function sAdd(string key, string[] values) = external;
+
+    # Write the queued commands to the server and wait for their replies. A command which fails does not affect the
+    # others, so the commands which were applied can be told from the ones which were not.
+    #
+    # + return - The replies of the queued commands in the order in which they were queued, each reply being the
+    #            value the corresponding `Client` function would return or the `error` of the command, or `error` if
+    #            the pipeline is closed
+    public function flush() returns (any[]|error) = external;
+
+    # Close the dedicated connection of the pipeline. Commands which have not been flushed are discarded.
+    public function close() = external;
+};
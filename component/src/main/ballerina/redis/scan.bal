@@ -0,0 +1,140 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Represents an iteration over the keys of a database or the members of a set, obtained through
+# `Client.scanIterator()` or `Client.sScanIterator()`. Each call to `next()` issues a single `SCAN` or `SSCAN` step,
+# so that a large keyspace or set is read in small batches instead of all at once.
+public type ScanIterator object {
+
+    private Client redisClient;
+    private string? key;
+    private ScanOptions options;
+    private string cursor = "0";
+    private boolean finished = false;
+
+    public function __init(Client redisClient, string? key, ScanOptions options) {
+        self.redisClient = redisClient;
+        self.key = key;
+        self.options = options;
+    }
+
+    # Check whether the iteration has further steps.
+    #
+    # + return - `true` if `next()` may return more elements
+    public function hasNext() returns boolean {
+        return !self.finished;
+    }
+
+    # Read the next batch of keys or members.
+    #
+    # + return - The keys or members of the next step, which may be empty even if the iteration is not complete, or
+    #            `error` if an error occurs
+    public function next() returns (string[]|error) {
+        if (self.finished) {
+            return [];
+        }
+        Client redisClient = self.redisClient;
+        ScanResult result;
+        string? key = self.key;
+        if (key is string) {
+            result = check redisClient->sScan(key, self.cursor, self.options);
+        } else {
+            result = check redisClient->scan(self.cursor, self.options);
+        }
+        self.cursor = result.cursor;
+        self.finished = result.finished;
+        return result.values;
+    }
+};
+
+# Represents an iteration over the fields of a hash, obtained through `Client.hScanIterator()`. Each call to `next()`
+# issues a single `HSCAN` step.
+public type HashScanIterator object {
+
+    private Client redisClient;
+    private ScanOptions options;
+    private string key;
+    private string cursor = "0";
+    private boolean finished = false;
+
+    public function __init(Client redisClient, string key, ScanOptions options) {
+        self.redisClient = redisClient;
+        self.key = key;
+        self.options = options;
+    }
+
+    # Check whether the iteration has further steps.
+    #
+    # + return - `true` if `next()` may return more fields
+    public function hasNext() returns boolean {
+        return !self.finished;
+    }
+
+    # Read the next batch of fields.
+    #
+    # + return - The fields of the next step and their values, which may be empty even if the iteration is not
+    #            complete, or `error` if an error occurs
+    public function next() returns (map<string>|error) {
+        if (self.finished) {
+            return {};
+        }
+        Client redisClient = self.redisClient;
+        HashScanResult result = check redisClient->hScan(self.key, self.cursor, self.options);
+        self.cursor = result.cursor;
+        self.finished = result.finished;
+        return result.entries;
+    }
+};
+
+# Represents an iteration over the members of a sorted set, obtained through `Client.zScanIterator()`. Each call to
+# `next()` issues a single `ZSCAN` step.
+public type SortedSetScanIterator object {
+
+    private Client redisClient;
+    private ScanOptions options;
+    private string key;
+    private string cursor = "0";
+    private boolean finished = false;
+
+    public function __init(Client redisClient, string key, ScanOptions options) {
+        self.redisClient = redisClient;
+        self.key = key;
+        self.options = options;
+    }
+
+    # Check whether the iteration has further steps.
+    #
+    # + return - `true` if `next()` may return more members
+    public function hasNext() returns boolean {
+        return !self.finished;
+    }
+
+    # Read the next batch of members.
+    #
+    # + return - The members of the next step and their scores, which may be empty even if the iteration is not
+    #            complete, or `error` if an error occurs
+    public function next() returns (map<float>|error) {
+        if (self.finished) {
+            return {};
+        }
+        Client redisClient = self.redisClient;
+        SortedSetScanResult result = check redisClient->zScan(self.key, self.cursor, self.options);
+        self.cursor = result.cursor;
+        self.finished = result.finished;
+        return result.entries;
+    }
+};
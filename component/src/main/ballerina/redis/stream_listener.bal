@@ -0,0 +1,154 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Represents a Redis stream listener. Each service attached to the listener consumes the stream given in its
+# `StreamServiceConfig` annotation as a member of a consumer group, receiving the entries through its `onEntry`
+# resource, which takes a `StreamEntry`. The entries are read in batches, the entries of a batch are processed in
+# parallel, and the entries processed without an error are acknowledged together once the whole batch is processed.
+# Entries which are not acknowledged within `claimMinIdleTime`, such as the entries of a consumer which went away,
+# are claimed and processed again. Each service reads on a connection of its own, opened when the listener starts.
+public type StreamListener object {
+    *AbstractListener;
+
+    private Client redisClient;
+
+    # Gets called when the listener is being initialized during the module initialization.
+    #
+    # + config - The configurations of the listener
+    public function __init(StreamListenerConfiguration config) {
+        self.redisClient = new({ host: config.host, password: config.password, options: config.options });
+        initStreamListener(self, self.redisClient, config);
+    }
+
+    # Gets called when a service is attached to the listener.
+    #
+    # + s - The service to be attached
+    # + annotationData - The annotations of the service
+    # + return - `error` if the service does not have a `StreamServiceConfig` annotation or an `onEntry` resource
+    public function __attach(service s, map<any> annotationData) returns error? {
+        return registerStreamService(self, s);
+    }
+
+    # Gets called when the listener is started, creating the consumer groups which do not exist and starting to
+    # consume the streams of the attached services.
+    #
+    # + return - `error` if a consumer group could not be created
+    public function __start() returns error? {
+        return startStreamListener(self);
+    }
+
+    # Gets called when the listener is stopped. The entries being processed are not acknowledged, so they are claimed
+    # by another consumer of the group once they become idle.
+    #
+    # + return - `error` if an error occurs
+    public function __stop() returns error? {
+        var result = stopStreamListener(self);
+        self.redisClient.stop();
+        return result;
+    }
+
+    # Get the entry consumption statistics of the listener.
+    #
+    # + return - The consumption statistics of the listener
+    public function getStats() returns StreamListenerStats = external;
+};
+
+# The configurations of a Redis stream listener.
+#
+# + host - Host address of the Redis database, or the host addresses of the nodes of a cluster
+# + password - Password for the database connection
+# + options - Connection options, as for a `Client`
+# + batchSize - The maximum number of entries read at a time by each service
+# + blockTime - The maximum time in milliseconds a read waits for new entries
+# + claimMinIdleTime - The time in milliseconds after which an entry which has not been acknowledged is claimed, or
+#   zero to not claim entries
+# + claimInterval - The interval in milliseconds at which the entries which have not been acknowledged are looked up
+public type StreamListenerConfiguration record {|
+    string host = "";
+    string password = "";
+    Options options = {};
+    int batchSize = 100;
+    int blockTime = 1000;
+    int claimMinIdleTime = 60000;
+    int claimInterval = 30000;
+|};
+
+# Configuration of a service attached to a Redis stream listener.
+#
+# + stream - The key of the stream consumed
+# + group - The consumer group, which is created if it does not exist
+# + consumer - The name of the consumer within the group, or an empty string for a name identifying the process
+# + startId - The ID after which the entries are consumed if the group is created, `$` for the entries added from
+#   then on, or `0` for all the entries of the stream
+public type StreamServiceConfigData record {|
+    string stream;
+    string group;
+    string consumer = "";
+    string startId = "$";
+|};
+
+# The annotation which is used to configure the stream consumed by a service attached to a Redis stream listener.
+public annotation<service> StreamServiceConfig StreamServiceConfigData;
+
+# An entry of a Redis stream.
+#
+# + id - The ID of the entry
+# + fields - The field-value pairs of the entry
+public type StreamEntry record {|
+    string id;
+    map<string> fields;
+|};
+
+# Entry consumption statistics of a Redis stream listener.
+#
+# + received - The number of entries read and claimed
+# + acknowledged - The number of entries acknowledged
+# + failed - The number of entries whose processing returned an error or panicked
+# + claimed - The number of entries claimed from consumers which did not acknowledge them in time
+public type StreamListenerStats record {|
+    int received;
+    int acknowledged;
+    int failed;
+    int claimed;
+|};
+
+# An internal function used by stream listeners to create their consumers.
+#
+# + streamListener - The listener to be initialized
+# + redisClient - The client through which the streams are consumed
+# + listenerConfig - The configurations of the listener
+function initStreamListener(StreamListener streamListener, Client redisClient,
+    StreamListenerConfiguration listenerConfig) = external;
+
+# An internal function used by stream listeners to attach a service.
+#
+# + streamListener - The listener to which the service is attached
+# + serviceType - The service to be attached
+# + return - `error` if the service does not have a `StreamServiceConfig` annotation or an `onEntry` resource
+function registerStreamService(StreamListener streamListener, service serviceType) returns error? = external;
+
+# An internal function used by stream listeners to start consuming.
+#
+# + streamListener - The listener to be started
+# + return - `error` if a consumer group could not be created
+function startStreamListener(StreamListener streamListener) returns error? = external;
+
+# An internal function used by stream listeners to stop consuming.
+#
+# + streamListener - The listener to be stopped
+# + return - `error` if an error occurs
+function stopStreamListener(StreamListener streamListener) returns error? = external;
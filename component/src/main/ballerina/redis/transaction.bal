@@ -0,0 +1,107 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Represents a Redis transaction, obtained through `Client.multi()`. The transaction holds a connection of its own
+# for its lifetime, which is a pooled connection when connection pooling is enabled and a connection of the blocking
+# command lane otherwise. Keys watched when the transaction was created can be read through `get` and `hGet` before
+# any command is queued; the queued commands are then executed atomically by `exec`, which is aborted if a watched key
+# was modified in the meantime. All the commands of a transaction are sent to the master, regardless of `readFrom`.
+public type Transaction object {
+
+    # Get the value of a key immediately, without queueing it.
+    #
+    # + key - The key
+    # + return - String value of the specified key, nil if the key does not exist or `error` if an error occurs
+    public function get(string key) returns (string?|error) = external;
+
+    # Get the value of a hash field immediately, without queueing it.
+    #
+    # + key - The key
+    # + field - The field
+    # + return - The value of the field, nil if the field does not exist or `error` if an error occurs
+    public function hGet(string key, string field) returns (string?|error) = external;
+
+    # Queue setting the string value of a key.
+    #
+    # + key - The key
+    # + value - The value to be set
+    public function setVal(string key, string value) = external;
+
+    # Queue incrementing the integer value of a key by one.
+    #
+    # + key - The key
+    public function incr(string key) = external;
+
+    # Queue incrementing the integer value of a key by the given number.
+    #
+    # + key - The key
+    # + value - The amount to increment
+    public function incrBy(string key, int value) = external;
+
+    # Queue decrementing the integer value of a key by one.
+    #
+    # + key - The key
+    public function decr(string key) = external;
+
+    # Queue decrementing the integer value of a key by the given number.
+    #
+    # + key - The key
+    # + value - The value to be decremented
+    public function decrBy(string key, int value) = external;
+
+    # Queue deleting one or more keys.
+    #
+    # + keys - Keys to be deleted
+    public function del(string[] keys) = external;
+
+    # Queue setting a key's time to live in seconds.
+    #
+    # + key - The key
+    # + seconds - Expiry in seconds
+    public function expire(string key, int seconds) = external;
+
+    # Queue setting the string value of a hash field.
+    #
+    # + key - The key
+    # + field - The field
+    # + value - The value to be set to the field
+    public function hSet(string key, string field, string value) = external;
+
+    # Queue prepending one or multiple values to a list.
+    #
+    # + key - The key
+    # + values - The values to be prepended
+    public function lPush(string key, string[] values) = external;
+
+    # Queue adding one or more members to a set.
+    #
+    # + key - The key
+    # + values - The values to be added
+    public function sAdd(string key, string[] values) = external;
+
+    # Execute the queued commands atomically and hand back the connection of the transaction.
+    #
+    # + return - The replies of the queued commands in the order in which they were queued, each reply being the
+    #            value the corresponding `Client` function would return, nil if the transaction was aborted because
+    #            a watched key was modified, or `error` if an error occurs
+    public function exec() returns (any[]?|error) = external;
+
+    # Discard the queued commands, unwatch all the keys and hand back the connection of the transaction.
+    #
+    # + return - `error` if an error occurs
+    public function discard() returns error? = external;
+};
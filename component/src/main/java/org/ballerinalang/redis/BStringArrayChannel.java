@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.output.ValueStreamingChannel;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BValueArray;
+
+/**
+ * {@code BStringArrayChannel} writes the elements of a multi-bulk reply straight into a Ballerina string array as
+ * they are decoded, instead of collecting the reply into a list first.
+ * <p>
+ * The elements are written by the I/O thread of the connection. The array may only be read once the command has
+ * completed.
+ *
+ * @since 0.8.3
+ */
+public class BStringArrayChannel implements ValueStreamingChannel<String> {
+
+    private final BValueArray values = new BValueArray(new BArrayType(BTypes.typeString));
+    private long size;
+
+    @Override
+    public void onValue(String value) {
+        values.add(size++, value);
+    }
+
+    /**
+     * Returns the array the elements of the reply were written to.
+     *
+     * @return a Ballerina string array
+     */
+    public BValueArray getValues() {
+        return values;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.output.KeyValueStreamingChannel;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+
+/**
+ * {@code BStringMapChannel} writes the entries of a key-value reply straight into a Ballerina map as they are
+ * decoded, instead of collecting the reply into a map first.
+ * <p>
+ * The entries are written by the I/O thread of the connection. The map may only be read once the command has
+ * completed.
+ *
+ * @param <K> Type of the Key
+ * @since 0.8.3
+ */
+public class BStringMapChannel<K> implements KeyValueStreamingChannel<K, String> {
+
+    private final BMap<K, BString> entries = new BMap<>();
+
+    @Override
+    public void onKeyValue(K key, String value) {
+        entries.put(key, new BString(value));
+    }
+
+    /**
+     * Returns the map the entries of the reply were written to.
+     *
+     * @return a Ballerina map of strings
+     */
+    public BMap<K, BString> getEntries() {
+        return entries;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BinaryValueListOutput} collects a multi-bulk reply as raw bytes, bypassing the value codec of the
+ * connection. Nil elements are collected as {@code null}.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 0.8.3
+ */
+public class BinaryValueListOutput<K, V> extends CommandOutput<K, V, List<byte[]>> {
+
+    public BinaryValueListOutput(RedisCodec<K, V> codec) {
+        super(codec, new ArrayList<>());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        byte[] value = null;
+        if (bytes != null) {
+            value = new byte[bytes.remaining()];
+            bytes.get(value);
+        }
+        output.add(value);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * {@code ClusterScan} iterates over the keys of all the master nodes of a Redis Cluster. Each step scans up to the
+ * given number of nodes concurrently and merges their keys. The position of the iteration on every node which is not
+ * yet exhausted is carried in the returned cursor, in the form {@code nodeId:cursor,nodeId:cursor}, so that the
+ * iteration can be resumed from its string form like a standalone {@code SCAN}.
+ *
+ * @since 0.8.3
+ */
+public class ClusterScan {
+
+    private static final String INITIAL_CURSOR = "0";
+    private static final String NODE_SEPARATOR = ",";
+    private static final String CURSOR_SEPARATOR = ":";
+
+    private ClusterScan() {
+    }
+
+    /**
+     * Issues a step of a cluster wide scan.
+     *
+     * @param commands    The asynchronous commands of the cluster connection
+     * @param cursor      The cursor returned by the previous step, or {@code 0} to start a new iteration
+     * @param scanArgs    The arguments of the {@code SCAN} issued on each node
+     * @param parallelism The maximum number of nodes scanned in this step
+     * @param <K>         Type of the Key
+     * @param <V>         Type of the Value
+     * @return the keys of this step, with the cursor of the next step
+     */
+    public static <K, V> CompletionStage<KeyScanCursor<K>> scan(RedisAdvancedClusterAsyncCommands<K, V> commands,
+            String cursor, ScanArgs scanArgs, int parallelism) {
+        Map<String, String> nodeCursors = parseCursor(commands.getStatefulConnection().getPartitions(), cursor);
+        Map<String, CompletableFuture<KeyScanCursor<K>>> replies = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, String>> pending = nodeCursors.entrySet().iterator();
+        while (pending.hasNext() && replies.size() < parallelism) {
+            Map.Entry<String, String> nodeCursor = pending.next();
+            replies.put(nodeCursor.getKey(), commands.getConnection(nodeCursor.getKey())
+                    .scan(ScanCursor.of(nodeCursor.getValue()), scanArgs).toCompletableFuture());
+            pending.remove();
+        }
+        return CompletableFuture.allOf(replies.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            KeyScanCursor<K> result = new KeyScanCursor<>();
+            // Nodes scanned in this step are moved behind the nodes still waiting for their turn
+            for (Map.Entry<String, CompletableFuture<KeyScanCursor<K>>> reply : replies.entrySet()) {
+                KeyScanCursor<K> nodeResult = reply.getValue().join();
+                result.getKeys().addAll(nodeResult.getKeys());
+                if (!nodeResult.isFinished()) {
+                    nodeCursors.put(reply.getKey(), nodeResult.getCursor());
+                }
+            }
+            result.setFinished(nodeCursors.isEmpty());
+            result.setCursor(nodeCursors.isEmpty() ? INITIAL_CURSOR : formatCursor(nodeCursors));
+            return result;
+        });
+    }
+
+    static Map<String, String> parseCursor(Partitions partitions, String cursor) {
+        Map<String, String> nodeCursors = new LinkedHashMap<>();
+        if (INITIAL_CURSOR.equals(cursor)) {
+            for (RedisClusterNode node : partitions) {
+                if (node.getFlags().contains(RedisClusterNode.NodeFlag.MASTER)) {
+                    nodeCursors.put(node.getNodeId(), INITIAL_CURSOR);
+                }
+            }
+            return nodeCursors;
+        }
+        for (String nodeCursor : cursor.split(NODE_SEPARATOR)) {
+            String[] parts = nodeCursor.split(CURSOR_SEPARATOR);
+            if (parts.length != 2) {
+                throw new BallerinaException("Invalid cluster scan cursor: " + cursor);
+            }
+            if (partitions.getPartitionByNodeId(parts[0]) == null) {
+                throw new BallerinaException("Node " + parts[0] + " of the cluster scan cursor is no longer part of "
+                        + "the cluster");
+            }
+            nodeCursors.put(parts[0], parts[1]);
+        }
+        return nodeCursors;
+    }
+
+    static String formatCursor(Map<String, String> nodeCursors) {
+        List<String> parts = new ArrayList<>(nodeCursors.size());
+        nodeCursors.forEach((nodeId, nodeCursor) -> parts.add(nodeId + CURSOR_SEPARATOR + nodeCursor));
+        return String.join(NODE_SEPARATOR, parts);
+    }
+}
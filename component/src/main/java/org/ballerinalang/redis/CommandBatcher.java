@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code CommandBatcher} coalesces the commands issued concurrently on a shared connection into a single write. The
+ * connection does not flush commands on its own. Instead the queued commands are flushed once the batch reaches its
+ * maximum size, or once the batch window which starts with the first command of the batch elapses, whichever comes
+ * first.
+ *
+ * @since 0.8.3
+ */
+public class CommandBatcher {
+
+    private StatefulConnection<?, ?> connection;
+    private int maxBatchSize;
+    private long windowMicros;
+    private EventExecutorGroup scheduler;
+    private Metrics metrics;
+    private final AtomicInteger queuedCommands = new AtomicInteger();
+
+    /**
+     * Constructor for {@link CommandBatcher}. Disables automatic flushing on the given connection.
+     *
+     * @param connection   The shared connection on which commands are batched
+     * @param maxBatchSize The number of queued commands which triggers a flush
+     * @param windowMicros The maximum time in microseconds a queued command waits for a flush
+     * @param scheduler    The executors on which flushes at the end of a batch window are run
+     * @param metrics      The metrics to which flushed batches are recorded
+     */
+    public CommandBatcher(StatefulConnection<?, ?> connection, int maxBatchSize, long windowMicros,
+            EventExecutorGroup scheduler, Metrics metrics) {
+        this.connection = connection;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMicros = windowMicros;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        connection.setAutoFlushCommands(false);
+    }
+
+    /**
+     * Notifies the batcher that a command has been dispatched on the connection. This must be called after the
+     * command has been dispatched, so that a flush which follows this call always includes the command.
+     */
+    public void commandQueued() {
+        int queued = queuedCommands.incrementAndGet();
+        if (queued >= maxBatchSize) {
+            flush();
+        } else if (queued == 1) {
+            scheduler.schedule(this::flush, windowMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private void flush() {
+        int batchSize = queuedCommands.getAndSet(0);
+        if (batchSize > 0) {
+            connection.flushCommands();
+            metrics.record(batchSize);
+        }
+    }
+
+    /**
+     * Batch size metrics shared by the batchers of a datasource.
+     */
+    public static class Metrics {
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder commands = new LongAdder();
+        private final LongAccumulator maxBatchSize = new LongAccumulator(Math::max, 0);
+
+        void record(int batchSize) {
+            batches.increment();
+            commands.add(batchSize);
+            maxBatchSize.accumulate(batchSize);
+        }
+
+        /**
+         * Returns the number of batches flushed.
+         *
+         * @return the number of batches
+         */
+        public long getBatches() {
+            return batches.sum();
+        }
+
+        /**
+         * Returns the number of commands flushed in batches.
+         *
+         * @return the number of commands
+         */
+        public long getCommands() {
+            return commands.sum();
+        }
+
+        /**
+         * Returns the size of the largest batch flushed.
+         *
+         * @return the largest batch size
+         */
+        public long getMaxBatchSize() {
+            return maxBatchSize.get();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.codec.RedisCodec;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@code CompressionCodec} wraps a {@link RedisCodec} and compresses the encoded values which are at least as large as
+ * the configured threshold using {@link Deflater}. Compressed values are prefixed with a header holding a marker and
+ * the length of the value, and are inflated transparently when read. Keys and values below the threshold are written
+ * as encoded by the wrapped codec, so that key based and numeric commands keep working.
+ * <p>
+ * Only values which are stored are to be compressed. Values which the server compares with stored ones, such as the
+ * members of lists, sets and sorted sets, range bounds and pivots, are encoded through the codec returned by
+ * {@link #uncompressedValues()}, which writes values as the wrapped codec does.
+ * <p>
+ * The first byte of the header is {@code 0xFF}, which never occurs in valid UTF-8, so the wrapped codec must encode
+ * values as UTF-8 for the header to be unambiguous. Values written by other means, such as through the
+ * {@code byte[]} functions or by other clients, may still start with the header. Such a value which cannot be
+ * inflated is decoded as is.
+ * <p>
+ * Commands which operate on the stored bytes of a value, such as {@code APPEND}, {@code GETRANGE},
+ * {@code SETRANGE}, {@code STRLEN} and {@code HSTRLEN}, see the compressed bytes of a compressed value.
+ * <p>
+ * {@link Deflater} and {@link Inflater} instances hold native memory, so a bounded number of them is kept for reuse
+ * and the rest are ended once used. The kept instances are ended by {@link #close()}.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 0.8.3
+ */
+public class CompressionCodec<K, V> implements RedisCodec<K, V> {
+
+    private static final byte[] MARKER = { (byte) 0xFF, 0x01 };
+    // The marker is followed by the length of the inflated value
+    private static final int HEADER_LENGTH = MARKER.length + Integer.BYTES;
+    // The largest ratio Deflate compresses data by, which bounds the length of a value that can be inflated
+    private static final int MAX_COMPRESSION_RATIO = 1032;
+    private static final int MAX_IDLE = Runtime.getRuntime().availableProcessors();
+    private RedisCodec<K, V> codec;
+    private int threshold;
+    private int level;
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(MAX_IDLE);
+    private final BlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(MAX_IDLE);
+    private volatile boolean closed;
+    private final RedisCodec<K, V> uncompressedValues = createUncompressedValues();
+
+    /**
+     * Constructor for {@link CompressionCodec}
+     *
+     * @param codec     The codec which encodes keys and values before compression
+     * @param threshold The minimum size in bytes of an encoded value for it to be compressed
+     * @param level     The compression level from 0 to 9, or -1 for the default level of {@link Deflater}
+     */
+    public CompressionCodec(RedisCodec<K, V> codec, int threshold, int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new BallerinaException("Compression level must be between -1 and 9: " + level);
+        }
+        this.codec = codec;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * Returns a codec which encodes values without compressing them, and decodes values as this codec does.
+     *
+     * @return the codec for the values compared by the server
+     */
+    public RedisCodec<K, V> uncompressedValues() {
+        return uncompressedValues;
+    }
+
+    private RedisCodec<K, V> createUncompressedValues() {
+        return new RedisCodec<K, V>() {
+            @Override
+            public K decodeKey(ByteBuffer bytes) {
+                return codec.decodeKey(bytes);
+            }
+
+            @Override
+            public V decodeValue(ByteBuffer bytes) {
+                return CompressionCodec.this.decodeValue(bytes);
+            }
+
+            @Override
+            public ByteBuffer encodeKey(K key) {
+                return codec.encodeKey(key);
+            }
+
+            @Override
+            public ByteBuffer encodeValue(V value) {
+                return codec.encodeValue(value);
+            }
+        };
+    }
+
+    @Override
+    public K decodeKey(ByteBuffer bytes) {
+        return codec.decodeKey(bytes);
+    }
+
+    @Override
+    public V decodeValue(ByteBuffer bytes) {
+        if (hasHeader(bytes)) {
+            ByteBuffer inflated = inflate(bytes);
+            if (inflated != null) {
+                return codec.decodeValue(inflated);
+            }
+        }
+        return codec.decodeValue(bytes);
+    }
+
+    @Override
+    public ByteBuffer encodeKey(K key) {
+        return codec.encodeKey(key);
+    }
+
+    @Override
+    public ByteBuffer encodeValue(V value) {
+        ByteBuffer encoded = codec.encodeValue(value);
+        if (encoded == null || encoded.remaining() < threshold || encoded.remaining() <= HEADER_LENGTH) {
+            return encoded;
+        }
+        byte[] input = new byte[encoded.remaining()];
+        encoded.get(input);
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(level);
+        }
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            // The value is only stored compressed if that makes it smaller
+            byte[] output = Arrays.copyOf(MARKER, input.length);
+            ByteBuffer.wrap(output, MARKER.length, Integer.BYTES).putInt(input.length);
+            int length = HEADER_LENGTH;
+            while (!deflater.finished() && length < output.length) {
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            if (!deflater.finished()) {
+                return ByteBuffer.wrap(input);
+            }
+            return ByteBuffer.wrap(output, 0, length);
+        } finally {
+            deflater.reset();
+            if (closed || !deflaters.offer(deflater)) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Ends the {@link Deflater} and {@link Inflater} instances kept for reuse. Values can still be encoded and decoded
+     * afterwards, but the instances used for that are ended right away.
+     */
+    public void close() {
+        closed = true;
+        Deflater deflater;
+        while ((deflater = deflaters.poll()) != null) {
+            deflater.end();
+        }
+        Inflater inflater;
+        while ((inflater = inflaters.poll()) != null) {
+            inflater.end();
+        }
+    }
+
+    private boolean hasHeader(ByteBuffer bytes) {
+        int position = bytes.position();
+        return bytes.remaining() > HEADER_LENGTH && bytes.get(position) == MARKER[0]
+                && bytes.get(position + 1) == MARKER[1];
+    }
+
+    /**
+     * Inflates a compressed value, or returns {@code null} if the value cannot be inflated. The inflated value is
+     * never larger than the length in its header, which cannot exceed what Deflate can compress into the value, so
+     * that a corrupt or hostile value cannot exhaust the heap.
+     */
+    private ByteBuffer inflate(ByteBuffer bytes) {
+        ByteBuffer compressed = bytes.duplicate();
+        compressed.position(compressed.position() + MARKER.length);
+        int inflatedLength = compressed.getInt();
+        byte[] input = new byte[compressed.remaining()];
+        compressed.get(input);
+        if (inflatedLength < 0 || inflatedLength > (long) input.length * MAX_COMPRESSION_RATIO) {
+            return null;
+        }
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater();
+        }
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[inflatedLength];
+            int length = 0;
+            while (!inflater.finished()) {
+                int inflated;
+                if (length < output.length) {
+                    inflated = inflater.inflate(output, length, output.length - length);
+                } else if (inflater.inflate(new byte[1]) > 0) {
+                    // The value inflates to more than its header says
+                    return null;
+                } else {
+                    inflated = 0;
+                }
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return null;
+                }
+                length += inflated;
+            }
+            return length == output.length ? ByteBuffer.wrap(output) : null;
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.reset();
+            if (closed || !inflaters.offer(inflater)) {
+                inflater.end();
+            }
+        }
+    }
+}
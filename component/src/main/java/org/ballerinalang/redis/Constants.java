@@ -28,11 +28,28 @@ import java.util.Map;
  */
 public class Constants {
     public static final int DEFAULT_REDIS_PORT = 6379;
+    public static final int DEFAULT_SENTINEL_PORT = 26379;
     public static final String REDIS_PACKAGE_PATH = "wso2/redis:0.0.0";
     public static final String CLIENT = "Client";
+    public static final String PIPELINE = "Pipeline";
+    public static final String TRANSACTION = "Transaction";
+    public static final String LISTENER = "Listener";
+    public static final String STREAM_LISTENER = "StreamListener";
     public static final String REDIS_EXCEPTION_OCCURRED = "Exception Occurred while executing Redis action";
     public static final String DATABASE_ERROR_DATA_RECORD_NAME = "DatabaseErrorData";
     public static final String DATABASE_ERROR_CODE = "{wso2/redis}DatabaseError";
+    public static final String BATCH_STATS_RECORD_NAME = "BatchStats";
+    public static final String CLUSTER_STATS_RECORD_NAME = "ClusterStats";
+    public static final String POOL_STATS_RECORD_NAME = "PoolStats";
+    public static final String COMMAND_METRICS_RECORD_NAME = "CommandMetrics";
+    public static final String COMMAND_LATENCY_RECORD_NAME = "CommandLatency";
+    public static final String SCAN_RESULT_RECORD_NAME = "ScanResult";
+    public static final String HASH_SCAN_RESULT_RECORD_NAME = "HashScanResult";
+    public static final String SORTED_SET_SCAN_RESULT_RECORD_NAME = "SortedSetScanResult";
+    public static final String MESSAGE_RECORD_NAME = "Message";
+    public static final String LISTENER_STATS_RECORD_NAME = "ListenerStats";
+    public static final String STREAM_ENTRY_RECORD_NAME = "StreamEntry";
+    public static final String STREAM_LISTENER_STATS_RECORD_NAME = "StreamListenerStats";
 
     /**
      * Endpoint configuration constants.
@@ -41,8 +58,57 @@ public class Constants {
         public static final String HOST = "host";
         public static final String PASSWORD = "password";
         public static final String OPTIONS = "options";
+        public static final String CODEC = "codec";
+        public static final String COMPRESSION_CONFIG = "compressionConfig";
         public static final String CLUSTERING_ENABLED = "isClusterConnection";
         public static final String POOLING_ENABLED = "connectionPooling";
+        public static final String ASYNC_MODE_ENABLED = "asyncMode";
+    }
+
+    /**
+     * Value compression configuration constants.
+     */
+    public static class CompressionConfig {
+        public static final String ENABLED = "enabled";
+        public static final String THRESHOLD = "threshold";
+        public static final String LEVEL = "level";
+    }
+
+    /**
+     * Pub/Sub listener constants.
+     */
+    public static class ListenerConfig {
+        public static final String MAX_CONCURRENT_DISPATCHES = "maxConcurrentDispatches";
+        public static final String QUEUE_CAPACITY = "queueCapacity";
+        public static final String SERVICE_CONFIG = "ServiceConfig";
+        public static final String CHANNELS = "channels";
+        public static final String PATTERNS = "patterns";
+        public static final String ON_MESSAGE = "onMessage";
+    }
+
+    /**
+     * Stream listener constants.
+     */
+    public static class StreamListenerConfig {
+        public static final String BATCH_SIZE = "batchSize";
+        public static final String BLOCK_TIME = "blockTime";
+        public static final String CLAIM_MIN_IDLE_TIME = "claimMinIdleTime";
+        public static final String CLAIM_INTERVAL = "claimInterval";
+        public static final String STREAM_SERVICE_CONFIG = "StreamServiceConfig";
+        public static final String STREAM = "stream";
+        public static final String GROUP = "group";
+        public static final String CONSUMER = "consumer";
+        public static final String START_ID = "startId";
+        public static final String ON_ENTRY = "onEntry";
+    }
+
+    /**
+     * Cursor based iteration option constants.
+     */
+    public static class ScanOptions {
+        public static final String MATCH = "match";
+        public static final String COUNT = "count";
+        public static final String PARALLELISM = "parallelism";
     }
 
     /**
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.metrics.CommandLatencyCollector;
+import io.lettuce.core.metrics.CommandLatencyId;
+import io.lettuce.core.metrics.CommandMetrics;
+import io.lettuce.core.metrics.DefaultCommandLatencyCollector;
+import io.lettuce.core.metrics.DefaultCommandLatencyCollectorOptions;
+import io.lettuce.core.protocol.ProtocolKeyword;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RedisCommandMetrics} reports the latencies of the commands issued by a client, per command type and target
+ * node, and the number of failed commands per command type. Latencies are recorded by the {@link LatencyCollector}
+ * of the client resources, so clients which opt in to sharing their resources report the latencies of all of them,
+ * while the failed commands are always counted per client.
+ *
+ * @since 0.8.3
+ */
+public class RedisCommandMetrics {
+
+    /**
+     * The percentiles of the latencies recorded for each command type and node.
+     */
+    public static final double[] PERCENTILES = { 50.0, 99.0, 99.9 };
+
+    private static final String LATENCY_METRIC = "redis_command_latency_microseconds";
+    private static final String COMMANDS_METRIC = "redis_commands_total";
+    private static final String ERRORS_METRIC = "redis_command_errors_total";
+
+    private LatencyCollector latencyCollector;
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for {@link RedisCommandMetrics}
+     *
+     * @param latencyCollector The collector which records the latencies of the commands of the client
+     */
+    public RedisCommandMetrics(LatencyCollector latencyCollector) {
+        this.latencyCollector = latencyCollector;
+    }
+
+    /**
+     * Creates a collector which records the {@link #PERCENTILES} and the total latency of each command type and
+     * node, and keeps the latencies when they are reported.
+     *
+     * @return a new {@link LatencyCollector} instance
+     */
+    public static LatencyCollector createCollector() {
+        return new LatencyCollector(DefaultCommandLatencyCollectorOptions.builder()
+                .targetPercentiles(PERCENTILES)
+                .resetLatenciesAfterEvent(false)
+                .build());
+    }
+
+    /**
+     * Records a failed command.
+     *
+     * @param command The type of the command, as the latencies of the command type are reported
+     */
+    public void recordError(String command) {
+        errors.computeIfAbsent(command, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Returns the number of failed commands per command.
+     *
+     * @return the number of errors keyed by command type, sorted by command type
+     */
+    public Map<String, Long> getErrors() {
+        Map<String, Long> result = new TreeMap<>();
+        errors.forEach((command, count) -> result.put(command, count.sum()));
+        return result;
+    }
+
+    /**
+     * Returns the latencies recorded per command type and node. Empty if latency collection is not available.
+     *
+     * @return the latencies, in microseconds
+     */
+    public List<Latency> getLatencies() {
+        List<Latency> latencies = new ArrayList<>();
+        if (!latencyCollector.isEnabled()) {
+            return latencies;
+        }
+        for (Map.Entry<CommandLatencyId, CommandMetrics> entry : latencyCollector.retrieveMetrics().entrySet()) {
+            CommandMetrics metrics = entry.getValue();
+            TimeUnit unit = metrics.getTimeUnit();
+            CommandMetrics.CommandLatency completion = metrics.getCompletion();
+            double[] percentiles = new double[PERCENTILES.length];
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                Long value = completion.getPercentiles().get(PERCENTILES[i]);
+                percentiles[i] = value == null ? 0 : unit.toMicros(value);
+            }
+            String command = entry.getKey().commandType().name();
+            String node = formatAddress(entry.getKey().remoteAddress());
+            latencies.add(new Latency(command, node, metrics.getCount(), unit.toMicros(completion.getMin()),
+                    unit.toMicros(completion.getMax()), percentiles, latencyCollector.getTotalLatency(command, node)));
+        }
+        return latencies;
+    }
+
+    /**
+     * Returns the latencies and errors in the Prometheus text exposition format. The latencies are reported as a
+     * summary, with the {@link #PERCENTILES} as quantiles.
+     *
+     * @return the metrics in Prometheus text format
+     */
+    public String toPrometheusFormat() {
+        List<Latency> latencies = getLatencies();
+        StringBuilder builder = new StringBuilder();
+        builder.append("# HELP ").append(LATENCY_METRIC).append(" Latency of Redis commands.\n");
+        builder.append("# TYPE ").append(LATENCY_METRIC).append(" summary\n");
+        for (Latency latency : latencies) {
+            String labels = "command=\"" + latency.getCommand() + "\",node=\"" + latency.getNode() + "\"";
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                builder.append(LATENCY_METRIC).append('{').append(labels)
+                        .append(",quantile=\"").append(PERCENTILES[i] / 100).append("\"} ")
+                        .append(latency.getPercentiles()[i]).append('\n');
+            }
+            builder.append(LATENCY_METRIC).append("_sum{").append(labels).append("} ").append(latency.getSum())
+                    .append('\n');
+            builder.append(LATENCY_METRIC).append("_count{").append(labels).append("} ").append(latency.getCount())
+                    .append('\n');
+        }
+        builder.append("# HELP ").append(COMMANDS_METRIC).append(" Number of Redis commands completed.\n");
+        builder.append("# TYPE ").append(COMMANDS_METRIC).append(" counter\n");
+        for (Latency latency : latencies) {
+            builder.append(COMMANDS_METRIC).append("{command=\"").append(latency.getCommand())
+                    .append("\",node=\"").append(latency.getNode()).append("\"} ")
+                    .append(latency.getCount()).append('\n');
+        }
+        builder.append("# HELP ").append(ERRORS_METRIC).append(" Number of failed Redis commands.\n");
+        builder.append("# TYPE ").append(ERRORS_METRIC).append(" counter\n");
+        getErrors().forEach((command, count) -> builder.append(ERRORS_METRIC).append("{command=\"").append(command)
+                .append("\"} ").append(count).append('\n'));
+        return builder.toString();
+    }
+
+    private static String formatAddress(SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            InetSocketAddress inetAddress = (InetSocketAddress) address;
+            return inetAddress.getHostString() + ":" + inetAddress.getPort();
+        }
+        return String.valueOf(address);
+    }
+
+    /**
+     * A {@link CommandLatencyCollector} which records the latencies of the commands through a
+     * {@link DefaultCommandLatencyCollector} and also sums up the completion latencies of each command type and node,
+     * which the default collector does not report.
+     */
+    public static class LatencyCollector implements CommandLatencyCollector {
+        private final CommandLatencyCollector delegate;
+        private final Map<String, LongAdder> totalLatencies = new ConcurrentHashMap<>();
+
+        LatencyCollector(DefaultCommandLatencyCollectorOptions options) {
+            this.delegate = new DefaultCommandLatencyCollector(options);
+        }
+
+        @Override
+        public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+                long firstResponseLatency, long completionLatency) {
+            delegate.recordCommandLatency(local, remote, commandType, firstResponseLatency, completionLatency);
+            if (delegate.isEnabled()) {
+                totalLatencies.computeIfAbsent(getKey(commandType.name(), formatAddress(remote)),
+                        key -> new LongAdder()).add(completionLatency);
+            }
+        }
+
+        @Override
+        public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
+            return delegate.retrieveMetrics();
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return delegate.isEnabled();
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        /**
+         * Returns the sum of the completion latencies of a command type on a node.
+         *
+         * @param command The command type
+         * @param node    The node, as {@code host:port}
+         * @return the total latency in microseconds
+         */
+        long getTotalLatency(String command, String node) {
+            LongAdder total = totalLatencies.get(getKey(command, node));
+            return total == null ? 0 : TimeUnit.NANOSECONDS.toMicros(total.sum());
+        }
+
+        private static String getKey(String command, String node) {
+            return command + ' ' + node;
+        }
+    }
+
+    /**
+     * The latencies of a command type on a node.
+     */
+    public static class Latency {
+        private String command;
+        private String node;
+        private long count;
+        private long min;
+        private long max;
+        private double[] percentiles;
+        private long sum;
+
+        Latency(String command, String node, long count, long min, long max, double[] percentiles, long sum) {
+            this.command = command;
+            this.node = node;
+            this.count = count;
+            this.min = min;
+            this.max = max;
+            this.percentiles = percentiles;
+            this.sum = sum;
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public String getNode() {
+            return node;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMin() {
+            return min;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the latencies at the {@link RedisCommandMetrics#PERCENTILES}, in the same order.
+         *
+         * @return the percentile latencies in microseconds
+         */
+        public double[] getPercentiles() {
+            return percentiles;
+        }
+
+        /**
+         * Returns the sum of the latencies of the completed commands.
+         *
+         * @return the total latency in microseconds
+         */
+        public long getSum() {
+            return sum;
+        }
+    }
+}
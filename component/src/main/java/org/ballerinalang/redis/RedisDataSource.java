@@ -18,32 +18,62 @@
 
 package org.ballerinalang.redis;
 
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisAsyncCommandsImpl;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.cluster.RedisAdvancedClusterAsyncCommandsImpl;
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.StatefulRedisClusterConnectionImpl;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
-import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.event.ClusterTopologyChangedEvent;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.masterslave.MasterSlave;
+import io.lettuce.core.masterslave.StatefulRedisMasterSlaveConnection;
+import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandKeyword;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.support.ConnectionPoolSupport;
+import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.ballerinalang.bre.bvm.BVM;
 import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.connector.api.Value;
 import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.ballerinalang.redis.Constants.DEFAULT_REDIS_PORT;
+import static org.ballerinalang.redis.Constants.DEFAULT_SENTINEL_PORT;
 
 /**
  * {@code {@link RedisDataSource}} Util class for Redis initialization.
@@ -56,14 +86,39 @@ public class RedisDataSource<K, V> implements BValue {
 
     private static final String HOSTS_SEPARATOR = ",";
     private static final String HOST_PORT_SEPARATOR = ":";
+    private static final String SOCKET_URI_PREFIX = "redis-socket://";
+    private static final String SOCKET_PATH_PREFIX = "/";
+    private static final ReadFrom READ_FROM_ANY = new ReadFromAny();
+    private static final Logger log = LoggerFactory.getLogger(RedisDataSource.class);
     private RedisClient redisClient;
     private RedisClusterClient redisClusterClient;
+    private RedisURI pubSubUri;
+    private ClientResources clientResources;
+    private boolean sharedResources = false;
     private RedisCodec<K, V> codec;
-    private RedisCommands<K, V> redisCommands;
-    private RedisAdvancedClusterCommands<K, V> redisClusterCommands;
+    private StatefulConnection<K, V> statefulConnection;
     private boolean isClusterConnection = false;
     private boolean poolingEnabled = false;
+    private boolean asyncEnabled = false;
     private GenericObjectPool<StatefulConnection<K, V>> objectPool;
+    private GenericObjectPool<StatefulConnection<K, V>> blockingPool;
+    private ReadFrom readFrom = ReadFrom.MASTER;
+    private long borrowWaitWarningThreshold;
+    private final LongAdder borrowTimeouts = new LongAdder();
+    private final LongAdder slowBorrows = new LongAdder();
+    private Supplier<StatefulConnection<K, V>> connectionSupplier;
+    private List<StatefulConnection<K, V>> multiplexedConnections;
+    private Map<StatefulConnection<K, V>, AtomicInteger> inFlightCommands;
+    private final AtomicInteger nextConnection = new AtomicInteger();
+    private ConnectionSelection connectionSelection;
+    private Map<StatefulConnection<K, V>, CommandBatcher> batchers;
+    private final CommandBatcher.Metrics batchMetrics = new CommandBatcher.Metrics();
+    private final LongAdder topologyChanges = new LongAdder();
+    private Disposable topologyChangeEvents;
+    private RedisCommandMetrics commandMetrics;
+    private final Set<StatefulConnection<K, V>> dedicatedConnections = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> scripts = new ConcurrentHashMap<>();
+    private final Map<String, String> scriptDigests = new ConcurrentHashMap<>();
 
     /**
      * Constructor for {@link RedisDataSource}
@@ -72,11 +127,14 @@ public class RedisDataSource<K, V> implements BValue {
      *              Instance of {@link RedisCodec}
      * @param isClusterConnection Whether the connection is a cluster connection
      * @param poolingEnabled Whether connection pooling is enabled
+     * @param asyncEnabled Whether commands are executed in async mode
      */
-    public RedisDataSource(RedisCodec<K, V> codec, boolean isClusterConnection, boolean poolingEnabled) {
+    public RedisDataSource(RedisCodec<K, V> codec, boolean isClusterConnection, boolean poolingEnabled,
+            boolean asyncEnabled) {
         this.codec = codec;
         this.isClusterConnection = isClusterConnection;
         this.poolingEnabled = poolingEnabled;
+        this.asyncEnabled = asyncEnabled;
     }
 
     /**
@@ -87,42 +145,389 @@ public class RedisDataSource<K, V> implements BValue {
      * @param options  The additional options
      */
     public void init(String hosts, String password, Struct options) {
-        List<ServerAddress> serverAddresses = obtainServerAddresses(hosts);
-        Supplier<StatefulConnection<K, V>> supplier;
-        if (isClusterConnection) {
-            setRedisClusterCommands(serverAddresses, options);
-        } else {
-            setRedisStandaloneCommands(serverAddresses, password, options);
+        Struct resourceOptions = options.getStructField(ConnectionParam.RESOURCES_CONFIG.getKey());
+        sharedResources = resourceOptions.getBooleanField(ResourcesParam.SHARED.getKey());
+        int ioThreadPoolSize = (int) resourceOptions.getIntField(ResourcesParam.IO_THREAD_POOL_SIZE.getKey());
+        int computationThreadPoolSize =
+                (int) resourceOptions.getIntField(ResourcesParam.COMPUTATION_THREAD_POOL_SIZE.getKey());
+        clientResources = sharedResources ?
+                SharedClientResources.acquire(ioThreadPoolSize, computationThreadPoolSize) :
+                SharedClientResources.create(ioThreadPoolSize, computationThreadPoolSize);
+        commandMetrics = new RedisCommandMetrics(
+                (RedisCommandMetrics.LatencyCollector) clientResources.commandLatencyCollector());
+        try {
+            connect(hosts, password, options);
+            for (Value script : options.getArrayField(ConnectionParam.SCRIPTS.getKey())) {
+                loadScript(script.getStringValue());
+            }
+        } catch (RuntimeException e) {
+            shutdownClients();
+            throw e;
         }
-        //TODO: Add support for executing commands in async mode/ reactive mode
     }
 
     /**
-     * Returns {@link RedisCommands}, an interface for Redis commands available on a Redis instance
+     * Returns a connection to execute commands on. When multiplexing is enabled one of the shared connections is
+     * selected, otherwise when pooling is enabled the connection is borrowed from the pool. In either case the
+     * connection must be handed back through {@link #releaseConnection(StatefulConnection)}.
      *
-     * @return a {@link RedisCommands} instance
+     * @return a {@link StatefulConnection} instance
      */
-    public RedisCommands<K, V> getRedisCommands() {
+    public StatefulConnection<K, V> getConnection() {
+        if (multiplexedConnections != null) {
+            return getMultiplexedConnection();
+        }
         if (poolingEnabled) {
-            StatefulRedisConnection<K, V> statefulRedisConnection = (StatefulRedisConnection<K, V>)
-                    getStatefulRedisConnectionFromPool();
-            return statefulRedisConnection.sync();
+            return getStatefulRedisConnectionFromPool();
         }
-        return redisCommands;
+        return statefulConnection;
     }
 
     /**
-     * Returns {@link RedisAdvancedClusterCommands}, an interface for Redis commands available on a Redis Cluster
+     * Returns a connection of the blocking command lane, for commands such as {@code BLPOP} which may wait on the
+     * server. The lane is a pool of its own, so that a waiting command neither holds up the commands queued behind it
+     * on a shared connection nor takes up a connection of the connection pool. The connection must be handed back
+     * through {@link #releaseBlockingConnection(StatefulConnection)}.
      *
-     * @return a {@link RedisAdvancedClusterCommands} instance
+     * @return a {@link StatefulConnection} instance
      */
-    public RedisAdvancedClusterCommands<K, V> getRedisClusterCommands() {
-        if (poolingEnabled) {
-            StatefulRedisClusterConnection<K, V> statefulRedisClusterConnection =
-                    (StatefulRedisClusterConnection<K, V>) getStatefulRedisConnectionFromPool();
-            return statefulRedisClusterConnection.sync();
+    public StatefulConnection<K, V> getBlockingConnection() {
+        try {
+            return blockingPool.borrowObject();
+        } catch (NoSuchElementException e) {
+            throw new BallerinaException("Timed out waiting for a connection for a blocking command", e);
+        } catch (Exception e) {
+            throw new BallerinaException("Error occurred while obtaining a connection for a blocking command", e);
+        }
+    }
+
+    /**
+     * Releases a connection obtained through {@link #getBlockingConnection()}.
+     *
+     * @param connection The connection to be released
+     */
+    public void releaseBlockingConnection(StatefulConnection<K, V> connection) {
+        if (connection != null) {
+            blockingPool.returnObject(connection);
+        }
+    }
+
+    /**
+     * Returns a connection for a transaction, which holds it until the transaction is executed or discarded. The
+     * connection is borrowed from the connection pool when pooling is enabled, otherwise from the blocking command
+     * lane, so that the connections held by transactions are bounded and reused. Reads on a master/replica connection
+     * are sent to the master while the connection is held, as are the watched keys. The connection must be handed
+     * back through {@link #releaseTransactionConnection(StatefulConnection, boolean)}.
+     *
+     * @return a {@link StatefulConnection} instance
+     */
+    public StatefulConnection<K, V> getTransactionConnection() {
+        StatefulConnection<K, V> connection = poolingEnabled ? getStatefulRedisConnectionFromPool() :
+                getBlockingConnection();
+        if (connection instanceof StatefulRedisMasterSlaveConnection) {
+            ((StatefulRedisMasterSlaveConnection<K, V>) connection).setReadFrom(ReadFrom.MASTER);
+        }
+        return connection;
+    }
+
+    /**
+     * Releases a connection obtained through {@link #getTransactionConnection()}. A connection which is not reusable,
+     * such as one on which a transaction failed or timed out and which may still be in a transaction or watching
+     * keys, is closed and removed from its pool instead.
+     *
+     * @param connection The connection to be released
+     * @param reusable   Whether the connection is in a state in which it can be handed out again
+     */
+    public void releaseTransactionConnection(StatefulConnection<K, V> connection, boolean reusable) {
+        GenericObjectPool<StatefulConnection<K, V>> pool = poolingEnabled ? objectPool : blockingPool;
+        if (!reusable) {
+            try {
+                pool.invalidateObject(connection);
+            } catch (Exception e) {
+                log.warn("Error occurred while closing the connection of a transaction", e);
+            }
+            return;
+        }
+        if (connection instanceof StatefulRedisMasterSlaveConnection) {
+            ((StatefulRedisMasterSlaveConnection<K, V>) connection).setReadFrom(readFrom);
+        }
+        pool.returnObject(connection);
+    }
+
+    /**
+     * Opens a new Pub/Sub connection, on which the subscriptions of a listener are made. The connection is owned by
+     * the caller, which is responsible for closing it. On cluster connections the subscriptions are made on a single
+     * node, which receives the messages published on all the nodes.
+     *
+     * @return a new {@link StatefulRedisPubSubConnection} instance
+     */
+    public StatefulRedisPubSubConnection<K, V> openPubSubConnection() {
+        if (isClusterConnection) {
+            return redisClusterClient.connectPubSub(codec);
+        }
+        return redisClient.connectPubSub(codec, pubSubUri);
+    }
+
+    /**
+     * Opens a new connection which is owned by the caller and is not shared, pooled or released through
+     * {@link #releaseConnection(StatefulConnection)}. The caller closes it through
+     * {@link #closeDedicatedConnection(StatefulConnection)}, and a connection which is still open when the datasource
+     * is closed is closed with it.
+     *
+     * @return a new {@link StatefulConnection} instance
+     */
+    public StatefulConnection<K, V> openDedicatedConnection() {
+        StatefulConnection<K, V> connection = connectionSupplier.get();
+        dedicatedConnections.add(connection);
+        return connection;
+    }
+
+    /**
+     * Closes a connection obtained through {@link #openDedicatedConnection()}.
+     *
+     * @param connection The connection to be closed
+     */
+    public void closeDedicatedConnection(StatefulConnection<K, V> connection) {
+        dedicatedConnections.remove(connection);
+        connection.close();
+    }
+
+    /**
+     * Releases a connection obtained through {@link #getConnection()}.
+     *
+     * @param connection The connection to be released
+     */
+    public void releaseConnection(StatefulConnection<K, V> connection) {
+        if (connection == null) {
+            return;
+        }
+        AtomicInteger inFlight = inFlightCommands != null ? inFlightCommands.get(connection) : null;
+        if (inFlight != null) {
+            inFlight.decrementAndGet();
+        } else if (poolingEnabled) {
+            objectPool.returnObject(connection);
+        }
+    }
+
+    /**
+     * Notifies the datasource that a command has been dispatched on a connection obtained through
+     * {@link #getConnection()}. When auto batching is enabled this is what eventually flushes the command to the
+     * server.
+     *
+     * @param connection The connection on which the command was dispatched
+     */
+    public void commandDispatched(StatefulConnection<K, V> connection) {
+        CommandBatcher batcher = batchers != null ? batchers.get(connection) : null;
+        if (batcher != null) {
+            batcher.commandQueued();
+        }
+    }
+
+    /**
+     * Returns the batch size metrics of the commands flushed through auto batching.
+     *
+     * @return a {@link CommandBatcher.Metrics} instance
+     */
+    public CommandBatcher.Metrics getBatchMetrics() {
+        return batchMetrics;
+    }
+
+    /**
+     * Returns the number of times a refresh of the cluster topology found the topology changed, such as after a slot
+     * migration or a failover. When the client resources are shared, the refreshes of all the cluster clients
+     * sharing them are counted. Always zero for connections which are not cluster connections.
+     *
+     * @return the number of topology changes
+     */
+    public long getTopologyChanges() {
+        return topologyChanges.sum();
+    }
+
+    /**
+     * Returns the latencies and error counts of the commands executed through this data source. When the client
+     * resources are shared, the latencies of the commands of all the clients sharing them are reported, while the
+     * errors are only those of this data source.
+     *
+     * @return a {@link RedisCommandMetrics} instance
+     */
+    public RedisCommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
+    /**
+     * Loads a Lua script into the script cache of the master, or of every master of a cluster connection, and
+     * registers it with the datasource. Replicas are not sent the script, as a master propagates the scripts loaded
+     * into its cache to its replicas through replication. The {@code EVALSHA} of a registered script falls back to
+     * {@code EVAL} when the script is missing from the cache of the node it reaches, such as a replica promoted by a
+     * failover or a restarted node, so the script is registered as long as a master loaded it.
+     *
+     * @param script The Lua script
+     * @return the SHA1 digest of the script
+     */
+    public String loadScript(String script) {
+        List<RedisFuture<String>> replies = new ArrayList<>();
+        StatefulConnection<K, V> connection = getConnection();
+        try {
+            if (isClusterConnection) {
+                StatefulRedisClusterConnection<K, V> clusterConnection =
+                        (StatefulRedisClusterConnection<K, V>) connection;
+                for (RedisClusterNode node : clusterConnection.getPartitions()) {
+                    if (!node.is(RedisClusterNode.NodeFlag.MASTER)) {
+                        continue;
+                    }
+                    StatefulRedisConnection<K, V> nodeConnection = clusterConnection.getConnection(node.getNodeId());
+                    replies.add(dispatchScriptLoad(nodeConnection.async(), script));
+                    nodeConnection.flushCommands();
+                }
+            } else {
+                // SCRIPT LOAD is not a read, so a master/replica connection sends it to the master
+                replies.add(dispatchScriptLoad(getAsyncCommands(connection), script));
+                commandDispatched(connection);
+            }
+            String digest = awaitScriptDigest(replies, connection.getTimeout());
+            scripts.put(digest, script);
+            scriptDigests.put(script, digest);
+            return digest;
+        } finally {
+            releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Waits for the replies of the nodes a script was loaded on, which must all report the same digest. Nodes which
+     * failed to load the script are logged, and the load only fails if no node loaded it.
+     */
+    private static String awaitScriptDigest(List<RedisFuture<String>> replies, Duration timeout) {
+        String digest = null;
+        RuntimeException failure = null;
+        for (RedisFuture<String> reply : replies) {
+            String nodeDigest;
+            try {
+                nodeDigest = RedisDataSourceUtils.await(reply, timeout);
+            } catch (RuntimeException e) {
+                log.warn("Error occurred while loading a script on a master, which is sent with EVAL if the script "
+                        + "is missing from its cache", e);
+                failure = e;
+                continue;
+            }
+            if (digest != null && !digest.equals(nodeDigest)) {
+                throw new BallerinaException("The masters returned different digests for the script: " + digest
+                        + " and " + nodeDigest);
+            }
+            digest = nodeDigest;
         }
-        return redisClusterCommands;
+        if (digest == null) {
+            throw failure != null ? failure : new BallerinaException("No master to load the script on");
+        }
+        return digest;
+    }
+
+    /**
+     * Returns a Lua script registered through {@link #loadScript(String)}.
+     *
+     * @param digest The SHA1 digest of the script
+     * @return the script, or {@code null} if no script with the given digest is registered
+     */
+    public String getScript(String digest) {
+        return scripts.get(digest);
+    }
+
+    /**
+     * Returns the SHA1 digest of a Lua script registered through {@link #loadScript(String)}.
+     *
+     * @param script The Lua script
+     * @return the digest, or {@code null} if the script is not registered
+     */
+    public String getScriptDigest(String script) {
+        return scriptDigests.get(script);
+    }
+
+    private RedisFuture<String> dispatchScriptLoad(RedisClusterAsyncCommands<K, V> commands, String script) {
+        return commands.dispatch(CommandType.SCRIPT, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).add(CommandKeyword.LOAD).add(script));
+    }
+
+    /**
+     * Returns the connection pool, if connection pooling is enabled.
+     *
+     * @return a {@link GenericObjectPool} instance, or {@code null} if connection pooling is disabled
+     */
+    public GenericObjectPool<StatefulConnection<K, V>> getConnectionPool() {
+        return objectPool;
+    }
+
+    /**
+     * Returns the number of times borrowing a connection from the pool timed out because the pool stayed exhausted
+     * for the configured maximum wait time.
+     *
+     * @return the number of borrow timeouts
+     */
+    public long getBorrowTimeouts() {
+        return borrowTimeouts.sum();
+    }
+
+    /**
+     * Returns the number of times borrowing a connection from the pool waited longer than the configured warning
+     * threshold.
+     *
+     * @return the number of slow borrows
+     */
+    public long getSlowBorrows() {
+        return slowBorrows.sum();
+    }
+
+    /**
+     * Returns the executors of the client resources, on which tasks such as retries can be scheduled.
+     *
+     * @return an {@link EventExecutorGroup} instance
+     */
+    public EventExecutorGroup getScheduler() {
+        return clientResources.eventExecutorGroup();
+    }
+
+    /**
+     * Returns the codec used for transcoding keys/values between the application and the Redis DB.
+     *
+     * @return a {@link RedisCodec} instance
+     */
+    public RedisCodec<K, V> getCodec() {
+        return codec;
+    }
+
+    /**
+     * Returns {@link RedisClusterAsyncCommands}, the asynchronous Redis commands common to Redis instances and
+     * Redis Clusters, for the given connection.
+     *
+     * @param connection A connection obtained through {@link #getConnection()}
+     * @return a {@link RedisClusterAsyncCommands} instance
+     */
+    public RedisClusterAsyncCommands<K, V> getAsyncCommands(StatefulConnection<K, V> connection) {
+        if (isClusterConnection) {
+            return ((StatefulRedisClusterConnection<K, V>) connection).async();
+        }
+        return ((StatefulRedisConnection<K, V>) connection).async();
+    }
+
+    /**
+     * Returns the asynchronous Redis commands for the given connection, which compress the values they write only if
+     * requested. Values which the server compares with stored values, such as the members of lists, sets and sorted
+     * sets, must not be compressed, see {@link CompressionCodec}.
+     *
+     * @param connection     A connection obtained through {@link #getConnection()}
+     * @param compressValues Whether values are compressed when compression is enabled
+     * @return a {@link RedisClusterAsyncCommands} instance
+     */
+    public RedisClusterAsyncCommands<K, V> getAsyncCommands(StatefulConnection<K, V> connection,
+            boolean compressValues) {
+        if (compressValues || !(codec instanceof CompressionCodec)) {
+            return getAsyncCommands(connection);
+        }
+        RedisCodec<K, V> uncompressedValues = ((CompressionCodec<K, V>) codec).uncompressedValues();
+        if (isClusterConnection) {
+            return new RedisAdvancedClusterAsyncCommandsImpl<>(
+                    (StatefulRedisClusterConnectionImpl<K, V>) connection, uncompressedValues);
+        }
+        return new RedisAsyncCommandsImpl<>((StatefulRedisConnection<K, V>) connection, uncompressedValues);
     }
 
     /**
@@ -135,7 +540,7 @@ public class RedisDataSource<K, V> implements BValue {
     }
 
     /**
-     * Returns whether the connection made by the datasource is a cluster connection.
+     * Returns whether connection pooling is enabled.
      *
      * @return boolean true/false
      */
@@ -143,49 +548,261 @@ public class RedisDataSource<K, V> implements BValue {
         return poolingEnabled;
     }
 
-    public void closeConnectionPool() {
-        objectPool.close();
+    /**
+     * Returns whether commands are executed in async mode, without blocking the caller until the reply arrives.
+     *
+     * @return boolean true/false
+     */
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
     }
 
-    private void setRedisStandaloneCommands(List<ServerAddress> serverAddresses, String password, Struct options) {
-        if (serverAddresses.size() > 1) {
-            throw new BallerinaException("More than one hosts have been provided for a non-cluster connection");
+    /**
+     * Returns whether commands are multiplexed over a fixed set of shared connections.
+     *
+     * @return boolean true/false
+     */
+    public boolean isMultiplexingEnabled() {
+        return multiplexedConnections != null;
+    }
+
+    /**
+     * Closes the connections held by the datasource, including the connection pool if pooling is enabled, and
+     * releases the client resources.
+     */
+    public void close() {
+        dedicatedConnections.forEach(StatefulConnection::close);
+        dedicatedConnections.clear();
+        if (poolingEnabled) {
+            objectPool.close();
         }
-        RedisURI redisUri;
-        StatefulRedisConnection<K, V> statefulRedisConnection;
-        RedisURI.Builder redisURIBuilder = RedisURI.Builder
-                .redis(serverAddresses.get(0).getHost(), serverAddresses.get(0).getPort());
-        redisURIBuilder = setOptions(redisURIBuilder, options);
-        if (!password.isEmpty()) {
-            redisUri = redisURIBuilder.withPassword(password).build();
+        if (blockingPool != null) {
+            blockingPool.close();
+        }
+        if (multiplexedConnections != null) {
+            multiplexedConnections.forEach(StatefulConnection::close);
+        }
+        if (statefulConnection != null) {
+            statefulConnection.close();
+        }
+        shutdownClients();
+        if (codec instanceof CompressionCodec) {
+            ((CompressionCodec<K, V>) codec).close();
+        }
+    }
+
+    private void shutdownClients() {
+        if (topologyChangeEvents != null) {
+            topologyChangeEvents.dispose();
+        }
+        if (redisClient != null) {
+            redisClient.shutdown();
+        }
+        if (redisClusterClient != null) {
+            redisClusterClient.shutdown();
+        }
+        if (sharedResources) {
+            SharedClientResources.release(clientResources);
         } else {
-            redisUri = redisURIBuilder.build();
+            SharedClientResources.shutdown(clientResources);
         }
-        redisClient = RedisClient.create(redisUri);
+    }
 
-        if (!poolingEnabled) {
-            statefulRedisConnection = redisClient.connect(codec);
-            redisCommands = statefulRedisConnection.sync();
+    private void connect(String hosts, String password, Struct options) {
+        String sentinelMasterId = options.getStringField(ConnectionParam.SENTINEL_MASTER_ID.getKey());
+        if (!sentinelMasterId.isEmpty()) {
+            if (isClusterConnection) {
+                throw new BallerinaException("A sentinel master cannot be provided for a cluster connection");
+            }
+            setRedisSentinelCommands(obtainServerAddresses(hosts, DEFAULT_SENTINEL_PORT), password,
+                    sentinelMasterId, options);
+            return;
+        }
+        List<ServerAddress> serverAddresses = obtainServerAddresses(hosts, DEFAULT_REDIS_PORT);
+        if (isClusterConnection) {
+            setRedisClusterCommands(serverAddresses, options);
         } else {
-            Supplier<StatefulConnection<K, V>> supplier = () -> redisClient.connect(codec);
-            objectPool = ConnectionPoolSupport.createGenericObjectPool(supplier, new GenericObjectPoolConfig());
+            setRedisStandaloneCommands(serverAddresses, password, options);
+        }
+    }
+
+    private void setRedisStandaloneCommands(List<ServerAddress> serverAddresses, String password, Struct options) {
+        ReadFrom readFrom = retrieveReadFrom(options);
+        List<RedisURI> redisUris = new ArrayList<>(serverAddresses.size());
+        for (ServerAddress serverAddress : serverAddresses) {
+            RedisURI.Builder redisURIBuilder = setOptions(createRedisURIBuilder(serverAddress), options);
+            if (!password.isEmpty()) {
+                redisURIBuilder.withPassword(password);
+            }
+            redisUris.add(redisURIBuilder.build());
+        }
+        // Messages published on any node of a master/replica setup reach the subscribers of all the nodes
+        pubSubUri = redisUris.get(0);
+        if (redisUris.size() == 1 && readFrom == ReadFrom.MASTER) {
+            redisClient = RedisClient.create(clientResources, redisUris.get(0));
+            createConnections(() -> redisClient.connect(codec), redisClient.getResources(), options);
+            return;
+        }
+        // The replicas of a single host are discovered from it, while multiple hosts are taken as the full topology
+        redisClient = RedisClient.create(clientResources);
+        createMasterReplicaConnections(() -> redisUris.size() == 1 ?
+                MasterSlave.connect(redisClient, codec, redisUris.get(0)) :
+                MasterSlave.connect(redisClient, codec, redisUris), readFrom, options);
+    }
+
+    private void setRedisSentinelCommands(List<ServerAddress> sentinelAddresses, String password,
+            String sentinelMasterId, Struct options) {
+        ReadFrom readFrom = retrieveReadFrom(options);
+        for (ServerAddress sentinelAddress : sentinelAddresses) {
+            if (sentinelAddress.getSocket() != null) {
+                throw new BallerinaException("Sentinels cannot be connected through a Unix domain socket: "
+                        + sentinelAddress.getSocket());
+            }
+        }
+        RedisURI.Builder redisURIBuilder = RedisURI.Builder.sentinel(sentinelAddresses.get(0).getHost(),
+                sentinelAddresses.get(0).getPort(), sentinelMasterId);
+        for (ServerAddress sentinelAddress : sentinelAddresses.subList(1, sentinelAddresses.size())) {
+            redisURIBuilder.withSentinel(sentinelAddress.getHost(), sentinelAddress.getPort());
         }
+        redisURIBuilder = setOptions(redisURIBuilder, options);
+        if (!password.isEmpty()) {
+            redisURIBuilder.withPassword(password);
+        }
+        RedisURI redisUri = redisURIBuilder.build();
+        pubSubUri = redisUri;
+        redisClient = RedisClient.create(clientResources);
+        // A master/replica connection through sentinels subscribes to their failover notifications and switches to
+        // the promoted master as soon as it is announced, instead of waiting for commands on the old master to fail
+        createMasterReplicaConnections(() -> MasterSlave.connect(redisClient, codec, redisUri), readFrom, options);
+    }
+
+    private void createMasterReplicaConnections(Supplier<StatefulRedisMasterSlaveConnection<K, V>> supplier,
+            ReadFrom readFrom, Struct options) {
+        this.readFrom = readFrom;
+        createConnections(() -> {
+            StatefulRedisMasterSlaveConnection<K, V> connection = supplier.get();
+            connection.setReadFrom(readFrom);
+            return connection;
+        }, redisClient.getResources(), options);
     }
 
     private void setRedisClusterCommands(List<ServerAddress> serverAddresses, Struct options) {
-        StatefulRedisClusterConnection<K, V> statefulRedisClusterConnection;
-        List<RedisURI> redisURIS = serverAddresses.stream().map(serverAddress -> setOptions(
-                RedisURI.Builder.redis(serverAddress.getHost(), serverAddress.getPort()), options).build())
+        ReadFrom readFrom = retrieveReadFrom(options);
+        List<RedisURI> redisURIS = serverAddresses.stream()
+                .map(serverAddress -> setOptions(createRedisURIBuilder(serverAddress), options).build())
                 .collect(Collectors.toList());
         //TODO: Clarify password usage with Redis Clusters and implement cluster authentication.
-        redisClusterClient = RedisClusterClient.create(redisURIS);
-        if (!poolingEnabled) {
-            statefulRedisClusterConnection = redisClusterClient.connect(codec);
-            redisClusterCommands = statefulRedisClusterConnection.sync();
-        } else {
-            Supplier<StatefulConnection<K, V>> supplier = () -> redisClusterClient.connect(codec);
-            objectPool = ConnectionPoolSupport.createGenericObjectPool(supplier, new GenericObjectPoolConfig());
+        redisClusterClient = RedisClusterClient.create(clientResources, redisURIS);
+        redisClusterClient.setOptions(createClusterClientOptions(options));
+        topologyChangeEvents = redisClusterClient.getResources().eventBus().get()
+                .filter(event -> event instanceof ClusterTopologyChangedEvent)
+                .subscribe(event -> topologyChanges.increment());
+        createConnections(() -> {
+            StatefulRedisClusterConnection<K, V> connection = redisClusterClient.connect(codec);
+            connection.setReadFrom(readFrom);
+            return connection;
+        }, redisClusterClient.getResources(), options);
+    }
+
+    private ClusterClientOptions createClusterClientOptions(Struct options) {
+        Struct clusterOptions = options.getStructField(ConnectionParam.CLUSTER_CONFIG.getKey());
+        ClusterTopologyRefreshOptions.Builder refreshOptions = ClusterTopologyRefreshOptions.builder();
+        long refreshPeriod = clusterOptions.getIntField(ClusterParam.REFRESH_PERIOD.getKey());
+        if (refreshPeriod > 0) {
+            refreshOptions.enablePeriodicRefresh(Duration.ofMillis(refreshPeriod));
         }
+        if (clusterOptions.getBooleanField(ClusterParam.ADAPTIVE_REFRESH.getKey())) {
+            refreshOptions.enableAdaptiveRefreshTrigger(ClusterTopologyRefreshOptions.RefreshTrigger.MOVED_REDIRECT,
+                    ClusterTopologyRefreshOptions.RefreshTrigger.ASK_REDIRECT,
+                    ClusterTopologyRefreshOptions.RefreshTrigger.PERSISTENT_RECONNECTS);
+        }
+        refreshOptions.adaptiveRefreshTriggersTimeout(
+                Duration.ofMillis(clusterOptions.getIntField(ClusterParam.ADAPTIVE_REFRESH_TIMEOUT.getKey())));
+        refreshOptions.refreshTriggersReconnectAttempts(
+                (int) clusterOptions.getIntField(ClusterParam.RECONNECT_ATTEMPTS.getKey()));
+        return ClusterClientOptions.builder()
+                .topologyRefreshOptions(refreshOptions.build())
+                .maxRedirects((int) clusterOptions.getIntField(ClusterParam.MAX_REDIRECTS.getKey()))
+                .build();
+    }
+
+    private ReadFrom retrieveReadFrom(Struct options) {
+        String readFrom = options.getStringField(ConnectionParam.READ_FROM.getKey());
+        ReadFromSetting setting;
+        try {
+            setting = ReadFromSetting.valueOf(readFrom);
+        } catch (IllegalArgumentException e) {
+            throw new BallerinaException("Unsupported read from setting: " + readFrom, e);
+        }
+        switch (setting) {
+        case MASTER_PREFERRED:
+            return ReadFrom.MASTER_PREFERRED;
+        case REPLICA:
+            return ReadFrom.SLAVE;
+        case REPLICA_PREFERRED:
+            return ReadFrom.SLAVE_PREFERRED;
+        case NEAREST:
+            return ReadFrom.NEAREST;
+        case ANY:
+            return READ_FROM_ANY;
+        default:
+            return ReadFrom.MASTER;
+        }
+    }
+
+    private void createConnections(Supplier<StatefulConnection<K, V>> supplier, ClientResources clientResources,
+            Struct options) {
+        connectionSupplier = supplier;
+        int connectionCount = (int) options.getIntField(ConnectionParam.MULTIPLEXED_CONNECTIONS.getKey());
+        if (poolingEnabled) {
+            // Connections are not wrapped, so that the connections of failed transactions can be invalidated
+            objectPool = ConnectionPoolSupport.createGenericObjectPool(supplier, createPoolConfig(options), false);
+            borrowWaitWarningThreshold = options.getStructField(ConnectionParam.POOL_CONFIG.getKey())
+                    .getIntField(PoolParam.BORROW_WAIT_WARNING_THRESHOLD.getKey());
+        }
+        blockingPool = ConnectionPoolSupport.createGenericObjectPool(supplier, createBlockingPoolConfig(options),
+                false);
+        if (connectionCount > 0) {
+            String selection = options.getStringField(ConnectionParam.CONNECTION_SELECTION.getKey());
+            try {
+                connectionSelection = ConnectionSelection.valueOf(selection);
+            } catch (IllegalArgumentException e) {
+                throw new BallerinaException("Unsupported connection selection strategy: " + selection, e);
+            }
+            multiplexedConnections = new ArrayList<>(connectionCount);
+            inFlightCommands = new IdentityHashMap<>(connectionCount);
+            for (int i = 0; i < connectionCount; i++) {
+                StatefulConnection<K, V> connection = supplier.get();
+                multiplexedConnections.add(connection);
+                inFlightCommands.put(connection, new AtomicInteger());
+            }
+        } else if (!poolingEnabled) {
+            statefulConnection = supplier.get();
+        }
+        Struct batchOptions = options.getStructField(ConnectionParam.BATCH_CONFIG.getKey());
+        if (batchOptions.getBooleanField(BatchParam.ENABLED.getKey())) {
+            int maxBatchSize = (int) batchOptions.getIntField(BatchParam.MAX_SIZE.getKey());
+            long window = batchOptions.getIntField(BatchParam.WINDOW.getKey());
+            List<StatefulConnection<K, V>> sharedConnections = new ArrayList<>();
+            if (multiplexedConnections != null) {
+                sharedConnections.addAll(multiplexedConnections);
+            }
+            if (statefulConnection != null) {
+                sharedConnections.add(statefulConnection);
+            }
+            batchers = new IdentityHashMap<>(sharedConnections.size());
+            for (StatefulConnection<K, V> connection : sharedConnections) {
+                batchers.put(connection, new CommandBatcher(connection, maxBatchSize, window,
+                        clientResources.eventExecutorGroup(), batchMetrics));
+            }
+        }
+    }
+
+    private RedisURI.Builder createRedisURIBuilder(ServerAddress serverAddress) {
+        if (serverAddress.getSocket() != null) {
+            return RedisURI.Builder.socket(serverAddress.getSocket());
+        }
+        return RedisURI.Builder.redis(serverAddress.getHost(), serverAddress.getPort());
     }
 
     private RedisURI.Builder setOptions(RedisURI.Builder builder, Struct options) {
@@ -213,16 +830,45 @@ public class RedisDataSource<K, V> implements BValue {
         return builder;
     }
 
-    private List<ServerAddress> obtainServerAddresses(String hostStr) {
+    private GenericObjectPoolConfig createPoolConfig(Struct options) {
+        Struct poolOptions = options.getStructField(ConnectionParam.POOL_CONFIG.getKey());
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal((int) poolOptions.getIntField(PoolParam.MAX_TOTAL.getKey()));
+        poolConfig.setMaxIdle((int) poolOptions.getIntField(PoolParam.MAX_IDLE.getKey()));
+        poolConfig.setMinIdle((int) poolOptions.getIntField(PoolParam.MIN_IDLE.getKey()));
+        poolConfig.setMaxWaitMillis(poolOptions.getIntField(PoolParam.MAX_WAIT.getKey()));
+        poolConfig.setTestOnBorrow(poolOptions.getBooleanField(PoolParam.TEST_ON_BORROW.getKey()));
+        poolConfig.setTimeBetweenEvictionRunsMillis(
+                poolOptions.getIntField(PoolParam.TIME_BETWEEN_EVICTION_RUNS.getKey()));
+        poolConfig.setLifo(poolOptions.getBooleanField(PoolParam.LIFO.getKey()));
+        return poolConfig;
+    }
+
+    private GenericObjectPoolConfig createBlockingPoolConfig(Struct options) {
+        Struct blockingOptions = options.getStructField(ConnectionParam.BLOCKING_CONFIG.getKey());
+        GenericObjectPoolConfig poolConfig = new GenericObjectPoolConfig();
+        poolConfig.setMaxTotal((int) blockingOptions.getIntField(BlockingParam.MAX_CONNECTIONS.getKey()));
+        poolConfig.setMaxIdle((int) blockingOptions.getIntField(BlockingParam.MAX_IDLE.getKey()));
+        poolConfig.setMaxWaitMillis(blockingOptions.getIntField(BlockingParam.MAX_WAIT.getKey()));
+        return poolConfig;
+    }
+
+    private List<ServerAddress> obtainServerAddresses(String hostStr, int defaultPort) {
         String[] hosts = hostStr.split(HOSTS_SEPARATOR);
         List<ServerAddress> result = new ArrayList<>(hosts.length);
         for (String host : hosts) {
-            result.add(createServerAddress(host));
+            result.add(createServerAddress(host, defaultPort));
         }
         return result;
     }
 
-    private ServerAddress createServerAddress(String hostStr) {
+    private ServerAddress createServerAddress(String hostStr, int defaultPort) {
+        if (hostStr.startsWith(SOCKET_URI_PREFIX)) {
+            return new ServerAddress(hostStr.substring(SOCKET_URI_PREFIX.length()));
+        }
+        if (hostStr.startsWith(SOCKET_PATH_PREFIX)) {
+            return new ServerAddress(hostStr);
+        }
         String[] hostPort = hostStr.split(HOST_PORT_SEPARATOR);
         String host = hostPort[0];
         int port;
@@ -233,16 +879,49 @@ public class RedisDataSource<K, V> implements BValue {
                 throw new BallerinaException("the port of the host string must be an integer: " + hostStr, e);
             }
         } else {
-            port = DEFAULT_REDIS_PORT;
+            port = defaultPort;
         }
         return new ServerAddress(host, port);
     }
 
+    private StatefulConnection<K, V> getMultiplexedConnection() {
+        StatefulConnection<K, V> connection;
+        if (connectionSelection == ConnectionSelection.LEAST_IN_FLIGHT) {
+            connection = multiplexedConnections.get(0);
+            int leastInFlight = inFlightCommands.get(connection).get();
+            for (int i = 1; i < multiplexedConnections.size() && leastInFlight > 0; i++) {
+                StatefulConnection<K, V> candidate = multiplexedConnections.get(i);
+                int inFlight = inFlightCommands.get(candidate).get();
+                if (inFlight < leastInFlight) {
+                    connection = candidate;
+                    leastInFlight = inFlight;
+                }
+            }
+        } else {
+            int index = Math.floorMod(nextConnection.getAndIncrement(), multiplexedConnections.size());
+            connection = multiplexedConnections.get(index);
+        }
+        inFlightCommands.get(connection).incrementAndGet();
+        return connection;
+    }
+
     private StatefulConnection<K, V> getStatefulRedisConnectionFromPool() {
+        long start = System.nanoTime();
         try {
-            return objectPool.borrowObject();
+            StatefulConnection<K, V> connection = objectPool.borrowObject();
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (borrowWaitWarningThreshold > 0 && waitMillis > borrowWaitWarningThreshold) {
+                slowBorrows.increment();
+                log.warn("Waited {} ms for a connection from the pool ({} active, {} waiting). Consider increasing "
+                        + "the maximum number of pooled connections", waitMillis, objectPool.getNumActive(),
+                        objectPool.getNumWaiters());
+            }
+            return connection;
+        } catch (NoSuchElementException e) {
+            borrowTimeouts.increment();
+            throw new BallerinaException("Timed out waiting for a connection from the pool", e);
         } catch (Exception e) {
-            throw new BallerinaException("Error occurred while obtaining connection from the pool");
+            throw new BallerinaException("Error occurred while obtaining connection from the pool", e);
         }
     }
 
@@ -276,7 +955,20 @@ public class RedisDataSource<K, V> implements BValue {
 
         //boolean params
         POOLING_ENABLED("poolingEnabled"), IS_CLUSTER_CONNECTION("isClusterConnection"), SSL_ENABLED(
-                "ssl"), START_TLS_ENABLED("startTls"), VERIFY_PEER_ENABLED("verifyPeer");
+                "ssl"), START_TLS_ENABLED("startTls"), VERIFY_PEER_ENABLED("verifyPeer"),
+
+        //int params
+        MULTIPLEXED_CONNECTIONS("multiplexedConnections"),
+
+        //String params
+        CONNECTION_SELECTION("connectionSelection"), READ_FROM("readFrom"), SENTINEL_MASTER_ID("sentinelMasterId"),
+
+        //record params
+        POOL_CONFIG("poolConfig"), BATCH_CONFIG("batchConfig"), CLUSTER_CONFIG("clusterConfig"),
+        RESOURCES_CONFIG("resourcesConfig"), BLOCKING_CONFIG("blockingConfig"),
+
+        //array params
+        SCRIPTS("scripts");
 
         private String key;
 
@@ -289,23 +981,128 @@ public class RedisDataSource<K, V> implements BValue {
         }
     }
 
-    public void releaseResources(Object redisCommands) {
-        if (isClusterConnection) {
-            objectPool.returnObject(((RedisAdvancedClusterCommands<K, V>) redisCommands).getStatefulConnection());
-        } else {
-            objectPool.returnObject(((RedisCommands<K, V>) redisCommands).getStatefulConnection());
+    private enum PoolParam {
+        //int params
+        MAX_TOTAL("maxTotal"), MAX_IDLE("maxIdle"), MIN_IDLE("minIdle"), MAX_WAIT("maxWait"),
+        TIME_BETWEEN_EVICTION_RUNS("timeBetweenEvictionRuns"),
+        BORROW_WAIT_WARNING_THRESHOLD("borrowWaitWarningThreshold"),
+
+        //boolean params
+        TEST_ON_BORROW("testOnBorrow"), LIFO("lifo");
+
+        private String key;
+
+        PoolParam(String key) {
+            this.key = key;
+        }
+
+        private String getKey() {
+            return key;
+        }
+    }
+
+    private enum BlockingParam {
+        //int params
+        MAX_CONNECTIONS("maxConnections"), MAX_IDLE("maxIdle"), MAX_WAIT("maxWait");
+
+        private String key;
+
+        BlockingParam(String key) {
+            this.key = key;
+        }
+
+        private String getKey() {
+            return key;
+        }
+    }
+
+    private enum BatchParam {
+        //boolean params
+        ENABLED("enabled"),
+
+        //int params
+        MAX_SIZE("maxSize"), WINDOW("window");
+
+        private String key;
+
+        BatchParam(String key) {
+            this.key = key;
+        }
+
+        private String getKey() {
+            return key;
+        }
+    }
+
+    private enum ResourcesParam {
+        //boolean params
+        SHARED("shared"),
+
+        //int params
+        IO_THREAD_POOL_SIZE("ioThreadPoolSize"), COMPUTATION_THREAD_POOL_SIZE("computationThreadPoolSize");
+
+        private String key;
+
+        ResourcesParam(String key) {
+            this.key = key;
+        }
+
+        private String getKey() {
+            return key;
+        }
+    }
+
+    private enum ClusterParam {
+        //int params
+        REFRESH_PERIOD("refreshPeriod"), ADAPTIVE_REFRESH_TIMEOUT("adaptiveRefreshTimeout"),
+        RECONNECT_ATTEMPTS("reconnectAttempts"), MAX_REDIRECTS("maxRedirects"),
+
+        //boolean params
+        ADAPTIVE_REFRESH("adaptiveRefresh");
+
+        private String key;
+
+        ClusterParam(String key) {
+            this.key = key;
+        }
+
+        private String getKey() {
+            return key;
+        }
+    }
+
+    private enum ConnectionSelection {
+        ROUND_ROBIN, LEAST_IN_FLIGHT
+    }
+
+    private enum ReadFromSetting {
+        MASTER, MASTER_PREFERRED, REPLICA, REPLICA_PREFERRED, NEAREST, ANY
+    }
+
+    /**
+     * Reads from any node, master or replica, in the order in which the nodes are known.
+     */
+    private static class ReadFromAny extends ReadFrom {
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+            return nodes.getNodes();
         }
     }
 
     private static class ServerAddress {
         private String host;
         private int port;
+        private String socket;
 
         ServerAddress(String host, int port) {
             this.host = host;
             this.port = port;
         }
 
+        ServerAddress(String socket) {
+            this.socket = socket;
+        }
+
         String getHost() {
             return host;
         }
@@ -313,5 +1110,9 @@ public class RedisDataSource<K, V> implements BValue {
         int getPort() {
             return port;
         }
+
+        String getSocket() {
+            return socket;
+        }
     }
 }
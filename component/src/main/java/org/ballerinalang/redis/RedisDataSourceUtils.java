@@ -18,13 +18,27 @@
 
 package org.ballerinalang.redis;
 
+import io.lettuce.core.ExceptionFactory;
+import io.lettuce.core.RedisCommandInterruptedException;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.StreamMessage;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.bre.bvm.BLangVMErrors;
 import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
 import org.ballerinalang.model.types.BTypes;
 import org.ballerinalang.model.values.BError;
 import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * This class contains utility methods for Redis package.
@@ -39,4 +53,48 @@ public class RedisDataSourceUtils {
         return BLangVMErrors.createError(context, true, BTypes.typeError, Constants.DATABASE_ERROR_CODE,
                 sqlClientErrorDetailRecord);
     }
+
+    /**
+     * Creates a {@code StreamEntry} record from an entry of a stream.
+     *
+     * @param programFile The program file in which the record type is defined
+     * @param message     The entry of the stream
+     * @return the {@code StreamEntry} record
+     */
+    public static BMap<String, BValue> createStreamEntry(ProgramFile programFile,
+            StreamMessage<String, String> message) {
+        BMap<String, BString> fields = new BMap<>();
+        for (Map.Entry<String, String> field : message.getBody().entrySet()) {
+            fields.put(field.getKey(), new BString(field.getValue()));
+        }
+        return BLangConnectorSPIUtil.createBStruct(programFile, Constants.REDIS_PACKAGE_PATH,
+                Constants.STREAM_ENTRY_RECORD_NAME, message.getId(), fields);
+    }
+
+    /**
+     * Waits for the reply of a command issued through the asynchronous API, failing with the exceptions the
+     * synchronous API would raise.
+     *
+     * @param reply   The pending reply
+     * @param timeout The maximum time to wait for the reply
+     * @param <T>     Type of the reply
+     * @return the reply
+     */
+    public static <T> T await(CompletionStage<T> reply, Duration timeout) {
+        CompletableFuture<T> future = reply.toCompletableFuture();
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RedisException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw ExceptionFactory.createTimeoutException(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisCommandInterruptedException(e);
+        }
+    }
 }
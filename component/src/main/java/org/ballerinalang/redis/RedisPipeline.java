@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * {@code RedisPipeline} queues commands on a dedicated connection and writes them to the server together when the
+ * pipeline is flushed, instead of paying a network round trip per command.
+ * <p>
+ * A pipeline may be used by several workers, so its methods are synchronized. Its connection is closed when the
+ * pipeline is closed, or otherwise together with the client.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 0.8.3
+ */
+public class RedisPipeline<K, V> {
+
+    private RedisDataSource<K, V> redisDataSource;
+    private StatefulConnection<K, V> connection;
+    private RedisClusterAsyncCommands<K, V> commands;
+    private RedisClusterAsyncCommands<K, V> uncompressedCommands;
+    private List<CompletionStage<? extends BValue>> replies = new ArrayList<>();
+
+    /**
+     * Constructor for {@link RedisPipeline}
+     *
+     * @param redisDataSource The datasource on which the dedicated connection of the pipeline is opened
+     */
+    public RedisPipeline(RedisDataSource<K, V> redisDataSource) {
+        this.redisDataSource = redisDataSource;
+        connection = redisDataSource.openDedicatedConnection();
+        connection.setAutoFlushCommands(false);
+        commands = redisDataSource.getAsyncCommands(connection);
+        uncompressedCommands = redisDataSource.getAsyncCommands(connection, false);
+    }
+
+    /**
+     * Queues a command. The command is not written to the server until {@link #flush(Function)} is called.
+     *
+     * @param command   The command to be issued on the asynchronous commands of the pipeline connection
+     * @param converter The function which converts the reply into a Ballerina value
+     * @param <T>       Type of the reply
+     */
+    public <T> void queue(Function<RedisClusterAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, ? extends BValue> converter) {
+        queue(command, converter, true);
+    }
+
+    /**
+     * Queues a command. The command is not written to the server until {@link #flush(Function)} is called.
+     *
+     * @param command        The command to be issued on the asynchronous commands of the pipeline connection
+     * @param converter      The function which converts the reply into a Ballerina value
+     * @param compressValues {@code false} if the values of the command are members which are compared by the server
+     *                       and so must not be compressed, see {@link CompressionCodec#uncompressedValues()}
+     * @param <T>            Type of the reply
+     */
+    public synchronized <T> void queue(Function<RedisClusterAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, ? extends BValue> converter, boolean compressValues) {
+        if (commands == null) {
+            throw new BallerinaException("Pipeline is closed");
+        }
+        try {
+            replies.add(command.apply(compressValues ? commands : uncompressedCommands).thenApply(converter));
+        } catch (IllegalArgumentException e) {
+            throw new BallerinaException("Arguments must not be null", e);
+        }
+    }
+
+    /**
+     * Writes the queued commands to the server and waits for their replies. A command which fails does not affect
+     * the others, so its error is returned in its position among the replies.
+     *
+     * @param errorConverter The function which converts the failure of a command into a Ballerina error
+     * @return the replies of the queued commands, in the order the commands were queued
+     */
+    public synchronized List<BValue> flush(Function<Throwable, ? extends BValue> errorConverter) {
+        if (commands == null) {
+            throw new BallerinaException("Pipeline is closed");
+        }
+        List<CompletionStage<? extends BValue>> pending = replies;
+        replies = new ArrayList<>();
+        connection.flushCommands();
+        List<BValue> results = new ArrayList<>(pending.size());
+        for (CompletionStage<? extends BValue> reply : pending) {
+            try {
+                results.add(RedisDataSourceUtils.await(reply, connection.getTimeout()));
+            } catch (RuntimeException e) {
+                results.add(errorConverter.apply(e));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Closes the dedicated connection of the pipeline. Commands which have not been flushed are discarded.
+     */
+    public synchronized void close() {
+        if (commands != null) {
+            commands = null;
+            uncompressedCommands = null;
+            replies.clear();
+            redisDataSource.closeDedicatedConnection(connection);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.Consumer;
+import io.lettuce.core.Limit;
+import io.lettuce.core.Range;
+import io.lettuce.core.RedisCommandExecutionException;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.models.stream.PendingMessage;
+import io.lettuce.core.models.stream.PendingParser;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
+import org.ballerinalang.connector.api.Executor;
+import org.ballerinalang.connector.api.Resource;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RedisStreamListener} consumes the entries of streams as a member of consumer groups and dispatches them to
+ * the {@code onEntry} resources of the services attached to a stream listener.
+ * <p>
+ * Each service reads on a connection of its own, with {@code XREADGROUP} waiting up to {@code blockTime} for a batch
+ * of up to {@code batchSize} new entries. The entries of a batch are dispatched in parallel, and the entries which
+ * were processed successfully are acknowledged together with a single {@code XACK} once the whole batch completes,
+ * before the next batch is read. Entries which are not acknowledged remain pending. Every {@code claimInterval}, the
+ * pending entries of the group which have not been acknowledged for {@code claimMinIdleTime}, such as the entries of
+ * a consumer which failed or went away, are claimed with {@code XCLAIM} and dispatched again.
+ * <p>
+ * The reads and acknowledgements are chained through the replies of the commands, so that no thread is held while
+ * waiting for entries.
+ *
+ * @since 0.8.3
+ */
+public class RedisStreamListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStreamListener.class);
+    private static final long RETRY_DELAY_MILLIS = 1000;
+    private static final String BUSY_GROUP_ERROR = "BUSYGROUP";
+    private static final String DEFAULT_CONSUMER_NAME = ManagementFactory.getRuntimeMXBean().getName();
+    private RedisDataSource<String, String> redisDataSource;
+    private ProgramFile programFile;
+    private int batchSize;
+    private long blockTime;
+    private long claimMinIdleTime;
+    private long claimInterval;
+    private final List<GroupConsumer> consumers = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder claimed = new LongAdder();
+
+    /**
+     * Constructor for {@link RedisStreamListener}
+     *
+     * @param redisDataSource  The datasource through which the connections of the consumers are opened
+     * @param programFile      The program file of the attached services
+     * @param batchSize        The maximum number of entries read at a time
+     * @param blockTime        The maximum time in milliseconds a read waits for new entries
+     * @param claimMinIdleTime The time in milliseconds after which a pending entry is claimed, or a non-positive value
+     *                         to disable claiming
+     * @param claimInterval    The interval in milliseconds at which pending entries are looked up for claiming
+     */
+    public RedisStreamListener(RedisDataSource<String, String> redisDataSource, ProgramFile programFile,
+            int batchSize, long blockTime, long claimMinIdleTime, long claimInterval) {
+        if (batchSize <= 0 || blockTime < 0) {
+            throw new BallerinaException("The batch size must be positive and the block time must not be negative");
+        }
+        this.redisDataSource = redisDataSource;
+        this.programFile = programFile;
+        this.batchSize = batchSize;
+        this.blockTime = blockTime;
+        this.claimMinIdleTime = claimMinIdleTime;
+        this.claimInterval = claimInterval;
+    }
+
+    /**
+     * Registers the resource to which the entries of a stream are dispatched. If the listener has been started the
+     * resource starts consuming right away, otherwise when the listener starts.
+     *
+     * @param resource The {@code onEntry} resource of a service
+     * @param stream   The key of the stream
+     * @param group    The consumer group, which is created if it does not exist
+     * @param consumer The name of the consumer within the group, or an empty string for a name identifying the process
+     * @param startId  The ID after which the entries are consumed if the group is created
+     */
+    public void addResource(Resource resource, String stream, String group, String consumer, String startId) {
+        GroupConsumer groupConsumer = new GroupConsumer(resource, stream, group,
+                consumer.isEmpty() ? DEFAULT_CONSUMER_NAME : consumer, startId);
+        consumers.add(groupConsumer);
+        if (running) {
+            groupConsumer.start();
+        }
+    }
+
+    /**
+     * Creates the consumer groups which do not exist and starts consuming.
+     */
+    public void start() {
+        running = true;
+        try {
+            for (GroupConsumer consumer : consumers) {
+                consumer.start();
+            }
+        } catch (RuntimeException e) {
+            stop();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops consuming. Entries being processed are not acknowledged, so they are claimed once they become idle.
+     */
+    public void stop() {
+        running = false;
+        for (GroupConsumer consumer : consumers) {
+            consumer.stop();
+        }
+    }
+
+    /**
+     * Returns the number of entries read and claimed.
+     *
+     * @return the number of received entries
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of entries acknowledged after being processed successfully.
+     *
+     * @return the number of acknowledged entries
+     */
+    public long getAcknowledged() {
+        return acknowledged.sum();
+    }
+
+    /**
+     * Returns the number of entries whose processing returned an error or panicked, which are left pending.
+     *
+     * @return the number of failed entries
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of pending entries claimed from idle consumers.
+     *
+     * @return the number of claimed entries
+     */
+    public long getClaimed() {
+        return claimed.sum();
+    }
+
+    /**
+     * Returns the IDs of the pending entries which have not been delivered for at least the given time.
+     *
+     * @param pending     The pending entries of a range of entries
+     * @param minIdleTime The minimum time in milliseconds since the last delivery of an entry
+     * @return the IDs of the idle entries
+     */
+    static List<String> getIdleEntries(List<PendingMessage> pending, long minIdleTime) {
+        List<String> ids = new ArrayList<>();
+        for (PendingMessage entry : pending) {
+            if (entry.getMsSinceLastDelivery() >= minIdleTime) {
+                ids.add(entry.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the smallest entry ID which is larger than the given one, from which the range following an entry
+     * starts. {@code XPENDING} does not support exclusive ranges before Redis 6.2.
+     *
+     * @param id The ID of a stream entry
+     * @return the ID following the given one
+     */
+    static String getNextId(String id) {
+        int separator = id.indexOf('-');
+        long time = Long.parseUnsignedLong(id.substring(0, separator));
+        long sequence = Long.parseUnsignedLong(id.substring(separator + 1));
+        // Both parts are unsigned 64 bit numbers, so the largest sequence number is -1 as a long
+        if (sequence == -1L) {
+            return Long.toUnsignedString(time + 1) + "-0";
+        }
+        return Long.toUnsignedString(time) + "-" + Long.toUnsignedString(sequence + 1);
+    }
+
+    /**
+     * A member of a consumer group reading the entries of a stream for a resource.
+     */
+    private class GroupConsumer {
+        private final Resource resource;
+        private final String stream;
+        private final String group;
+        private final Consumer<String> consumer;
+        private final String startId;
+        private final XReadArgs readArgs;
+        private volatile StatefulConnection<String, String> connection;
+        private RedisClusterAsyncCommands<String, String> commands;
+        private long lastClaim;
+
+        GroupConsumer(Resource resource, String stream, String group, String consumer, String startId) {
+            this.resource = resource;
+            this.stream = stream;
+            this.group = group;
+            this.consumer = Consumer.from(group, consumer);
+            this.startId = startId;
+            readArgs = XReadArgs.Builder.block(blockTime).count(batchSize);
+        }
+
+        void start() {
+            connection = redisDataSource.openDedicatedConnection();
+            commands = redisDataSource.getAsyncCommands(connection);
+            try {
+                createGroup();
+            } catch (RuntimeException e) {
+                stop();
+                throw e;
+            }
+            read();
+        }
+
+        void stop() {
+            StatefulConnection<String, String> openConnection = connection;
+            connection = null;
+            if (openConnection != null) {
+                redisDataSource.closeDedicatedConnection(openConnection);
+            }
+        }
+
+        private void createGroup() {
+            RedisCodec<String, String> codec = redisDataSource.getCodec();
+            // MKSTREAM, which creates an empty stream for the group, is not supported by xgroupCreate of Lettuce 5.1
+            CommandArgs<String, String> args = new CommandArgs<>(codec).add("CREATE").addKey(stream).add(group)
+                    .add(startId).add("MKSTREAM");
+            try {
+                RedisDataSourceUtils.await(commands.dispatch(CommandType.XGROUP, new StatusOutput<>(codec), args),
+                        connection.getTimeout());
+            } catch (RedisCommandExecutionException e) {
+                if (e.getMessage() == null || !e.getMessage().startsWith(BUSY_GROUP_ERROR)) {
+                    throw e;
+                }
+            }
+        }
+
+        private void read() {
+            if (!running || connection == null) {
+                return;
+            }
+            CompletionStage<List<StreamMessage<String, String>>> entries;
+            long now = System.currentTimeMillis();
+            if (claimMinIdleTime > 0 && now - lastClaim >= claimInterval) {
+                lastClaim = now;
+                entries = claimIdleEntries();
+            } else {
+                entries = commands.xreadgroup(consumer, readArgs, XReadArgs.StreamOffset.lastConsumed(stream));
+            }
+            entries.whenComplete((batch, throwable) -> {
+                if (throwable == null) {
+                    dispatch(batch);
+                } else {
+                    log.warn("Error occurred while reading stream {} as a member of group {}, retrying: {}", stream,
+                            group, throwable.getMessage());
+                    retryRead();
+                }
+            });
+        }
+
+        private void retryRead() {
+            if (running && connection != null) {
+                redisDataSource.getScheduler().schedule(this::read, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private CompletionStage<List<StreamMessage<String, String>>> claimIdleEntries() {
+            return findIdleEntries(Range.Boundary.unbounded(), new ArrayList<>()).thenCompose(ids -> {
+                if (ids.isEmpty()) {
+                    return CompletableFuture.completedFuture(Collections.<StreamMessage<String, String>>emptyList());
+                }
+                return commands.xclaim(stream, consumer, claimMinIdleTime, ids.toArray(new String[0]))
+                        .thenApply(entries -> {
+                            claimed.add(entries.size());
+                            return entries;
+                        });
+            });
+        }
+
+        /**
+         * Pages through the pending entries of the group from the given ID, until a batch of idle entries is found or
+         * all of the pending entries have been looked at. The oldest pending entries may still be being processed, so
+         * the idle entries can be behind them.
+         */
+        private CompletionStage<List<String>> findIdleEntries(Range.Boundary<String> start, List<String> ids) {
+            Range<String> range = Range.from(start, Range.Boundary.unbounded());
+            return commands.xpending(stream, group, range, Limit.from(batchSize)).thenCompose(reply -> {
+                List<PendingMessage> pending = PendingParser.parseRange(reply);
+                for (String id : getIdleEntries(pending, claimMinIdleTime)) {
+                    if (ids.size() < batchSize) {
+                        ids.add(id);
+                    }
+                }
+                if (ids.size() >= batchSize || pending.size() < batchSize || connection == null) {
+                    return CompletableFuture.completedFuture(ids);
+                }
+                String nextId = getNextId(pending.get(pending.size() - 1).getId());
+                return findIdleEntries(Range.Boundary.including(nextId), ids);
+            });
+        }
+
+        private void dispatch(List<StreamMessage<String, String>> batch) {
+            if (batch.isEmpty()) {
+                read();
+                return;
+            }
+            received.add(batch.size());
+            AtomicInteger remaining = new AtomicInteger(batch.size());
+            Queue<String> processed = new ConcurrentLinkedQueue<>();
+            AtomicBoolean dispatchFailed = new AtomicBoolean();
+            int dispatched = 0;
+            try {
+                for (StreamMessage<String, String> entry : batch) {
+                    Executor.submit(resource, new CallableUnitCallback() {
+                        @Override
+                        public void notifySuccess() {
+                            processed.add(entry.getId());
+                            completed();
+                        }
+
+                        @Override
+                        public void notifyFailure(BError error) {
+                            failed.increment();
+                            log.error("Error occurred while processing entry {} of stream {}: {}", entry.getId(),
+                                    stream, error.stringValue());
+                            completed();
+                        }
+
+                        private void completed() {
+                            if (remaining.decrementAndGet() == 0) {
+                                acknowledge(processed, dispatchFailed.get());
+                            }
+                        }
+                    }, null, null, RedisDataSourceUtils.createStreamEntry(programFile, entry));
+                    dispatched++;
+                }
+            } catch (RuntimeException e) {
+                // The entries which were not dispatched remain pending and are claimed once they become idle, while
+                // the ones which were are still acknowledged once they are processed
+                log.error("Error occurred while dispatching entries of stream {}, retrying", stream, e);
+                failed.add(batch.size() - dispatched);
+                dispatchFailed.set(true);
+                if (remaining.addAndGet(dispatched - batch.size()) == 0) {
+                    acknowledge(processed, true);
+                }
+            }
+        }
+
+        /**
+         * Acknowledges the processed entries of a batch, and reads the next batch. The read is delayed if the batch
+         * could not be dispatched completely.
+         */
+        private void acknowledge(Queue<String> processed, boolean retry) {
+            Runnable next = retry ? this::retryRead : this::read;
+            if (processed.isEmpty() || connection == null) {
+                next.run();
+                return;
+            }
+            commands.xack(stream, group, processed.toArray(new String[0])).whenComplete((count, throwable) -> {
+                if (throwable != null) {
+                    // The entries remain pending and are claimed again once they become idle
+                    log.warn("Error occurred while acknowledging entries of stream {}: {}", stream,
+                            throwable.getMessage());
+                } else {
+                    acknowledged.add(count);
+                }
+                next.run();
+            });
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Executor;
+import org.ballerinalang.connector.api.Resource;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.codegen.ProgramFile;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code RedisSubscriber} receives the messages of the channels and patterns subscribed to by the services attached
+ * to a listener, on a Pub/Sub connection of its own, and dispatches them to the {@code onMessage} resources of the
+ * services.
+ * <p>
+ * At most {@code maxConcurrentDispatches} messages are dispatched at a time, and the messages received meanwhile wait
+ * in a queue holding up to {@code queueCapacity} messages. Redis does not hold back messages for slow subscribers, so
+ * a message received while the queue is full is dropped and counted, rather than stalling the connection until the
+ * server closes it for exceeding its output buffer limit.
+ *
+ * @since 0.8.3
+ */
+public class RedisSubscriber extends RedisPubSubAdapter<String, String> {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisSubscriber.class);
+    private RedisDataSource<String, String> redisDataSource;
+    private ProgramFile programFile;
+    private StatefulRedisPubSubConnection<String, String> connection;
+    private final Map<String, List<Resource>> channelResources = new ConcurrentHashMap<>();
+    private final Map<String, List<Resource>> patternResources = new ConcurrentHashMap<>();
+    private final BlockingQueue<PendingMessage> pendingMessages;
+    private final Semaphore dispatchPermits;
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAccumulator maxPending = new LongAccumulator(Math::max, 0);
+    private volatile boolean lagging;
+
+    /**
+     * Constructor for {@link RedisSubscriber}
+     *
+     * @param redisDataSource         The datasource through which the Pub/Sub connection is opened
+     * @param programFile             The program file of the attached services
+     * @param maxConcurrentDispatches The maximum number of messages dispatched to the resources at a time
+     * @param queueCapacity           The maximum number of messages waiting to be dispatched
+     */
+    public RedisSubscriber(RedisDataSource<String, String> redisDataSource, ProgramFile programFile,
+            int maxConcurrentDispatches, int queueCapacity) {
+        if (maxConcurrentDispatches <= 0 || queueCapacity <= 0) {
+            throw new BallerinaException("The maximum concurrent dispatches and the queue capacity must be positive");
+        }
+        this.redisDataSource = redisDataSource;
+        this.programFile = programFile;
+        pendingMessages = new ArrayBlockingQueue<>(queueCapacity);
+        dispatchPermits = new Semaphore(maxConcurrentDispatches);
+    }
+
+    /**
+     * Registers the resource to which the messages of the given channels and patterns are dispatched. If the
+     * subscriber has been started the channels and patterns are subscribed to right away, otherwise when it starts.
+     *
+     * @param resource The {@code onMessage} resource of a service
+     * @param channels The channels subscribed to
+     * @param patterns The channel patterns subscribed to
+     */
+    public void addResource(Resource resource, String[] channels, String[] patterns) {
+        for (String channel : channels) {
+            channelResources.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(resource);
+        }
+        for (String pattern : patterns) {
+            patternResources.computeIfAbsent(pattern, key -> new CopyOnWriteArrayList<>()).add(resource);
+        }
+        if (connection != null) {
+            subscribe(channels, patterns);
+        }
+    }
+
+    /**
+     * Opens the Pub/Sub connection and subscribes to the channels and patterns of the registered resources.
+     */
+    public void start() {
+        if (connection != null) {
+            return;
+        }
+        connection = redisDataSource.openPubSubConnection();
+        connection.addListener(this);
+        try {
+            subscribe(channelResources.keySet().toArray(new String[0]),
+                    patternResources.keySet().toArray(new String[0]));
+        } catch (RuntimeException e) {
+            stop();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the Pub/Sub connection. Messages waiting to be dispatched are discarded.
+     */
+    public void stop() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+        pendingMessages.clear();
+    }
+
+    private void subscribe(String[] channels, String[] patterns) {
+        if (channels.length > 0) {
+            RedisDataSourceUtils.await(connection.async().subscribe(channels), connection.getTimeout());
+        }
+        if (patterns.length > 0) {
+            RedisDataSourceUtils.await(connection.async().psubscribe(patterns), connection.getTimeout());
+        }
+    }
+
+    @Override
+    public void message(String channel, String message) {
+        enqueue(channelResources.get(channel), channel, "", message);
+    }
+
+    @Override
+    public void message(String pattern, String channel, String message) {
+        enqueue(patternResources.get(pattern), channel, pattern, message);
+    }
+
+    private void enqueue(List<Resource> resources, String channel, String pattern, String message) {
+        received.increment();
+        for (Resource resource : resources != null ? resources : Collections.<Resource>emptyList()) {
+            if (pendingMessages.offer(new PendingMessage(resource, channel, pattern, message))) {
+                maxPending.accumulate(pendingMessages.size());
+                continue;
+            }
+            dropped.increment();
+            if (!lagging) {
+                lagging = true;
+                log.warn("Dropping messages of channel {} as the services of the listener lag behind and {} messages"
+                        + " are waiting to be dispatched", channel, pendingMessages.size());
+            }
+        }
+        dispatchPending();
+    }
+
+    private void dispatchPending() {
+        while (dispatchPermits.tryAcquire()) {
+            PendingMessage pendingMessage = pendingMessages.poll();
+            if (pendingMessage == null) {
+                dispatchPermits.release();
+                // A message queued after the poll, while the permit was held, is dispatched by the next iteration
+                if (pendingMessages.isEmpty()) {
+                    lagging = false;
+                    return;
+                }
+                continue;
+            }
+            dispatch(pendingMessage);
+        }
+    }
+
+    private void dispatch(PendingMessage pendingMessage) {
+        BMap<String, BValue> bMessage = BLangConnectorSPIUtil.createBStruct(programFile,
+                Constants.REDIS_PACKAGE_PATH, Constants.MESSAGE_RECORD_NAME, pendingMessage.channel,
+                pendingMessage.pattern, pendingMessage.message);
+        Executor.submit(pendingMessage.resource, new CallableUnitCallback() {
+            @Override
+            public void notifySuccess() {
+                dispatched.increment();
+                dispatchCompleted();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                failed.increment();
+                log.error("Error occurred while dispatching a message of channel {}: {}", pendingMessage.channel,
+                        error.stringValue());
+                dispatchCompleted();
+            }
+        }, null, null, bMessage);
+    }
+
+    private void dispatchCompleted() {
+        dispatchPermits.release();
+        dispatchPending();
+    }
+
+    /**
+     * Returns the number of messages received on the subscribed channels and patterns.
+     *
+     * @return the number of received messages
+     */
+    public long getReceived() {
+        return received.sum();
+    }
+
+    /**
+     * Returns the number of messages whose dispatch to a resource completed successfully.
+     *
+     * @return the number of dispatched messages
+     */
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * Returns the number of messages whose dispatch to a resource returned an error or panicked.
+     *
+     * @return the number of failed dispatches
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Returns the number of messages dropped because the queue of messages waiting to be dispatched was full.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns the number of messages waiting to be dispatched.
+     *
+     * @return the number of pending messages
+     */
+    public int getPending() {
+        return pendingMessages.size();
+    }
+
+    /**
+     * Returns the highest number of messages which have been waiting to be dispatched at a time.
+     *
+     * @return the maximum number of pending messages
+     */
+    public long getMaxPending() {
+        return maxPending.get();
+    }
+
+    /**
+     * A message waiting to be dispatched to a resource.
+     */
+    private static class PendingMessage {
+        private final Resource resource;
+        private final String channel;
+        private final String pattern;
+        private final String message;
+
+        PendingMessage(Resource resource, String channel, String pattern, String message) {
+            this.resource = resource;
+            this.channel = channel;
+            this.pattern = pattern;
+            this.message = message;
+        }
+    }
+}
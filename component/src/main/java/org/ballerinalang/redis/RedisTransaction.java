@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.TransactionResult;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * {@code RedisTransaction} runs a MULTI/EXEC transaction on a connection of its own. The keys given when the
+ * transaction is created are watched, so that the transaction is aborted if another client modifies them before it is
+ * executed. Commands may be issued right away, typically to read the watched keys, or queued. Queued commands are
+ * written to the server together with MULTI and EXEC when the transaction is executed, in a single round trip.
+ * <p>
+ * The connection is obtained through {@link RedisDataSource#getTransactionConnection()}, so its commands are sent to
+ * the master, and it is handed back once the transaction is executed or discarded. If the transaction fails or times
+ * out, the connection may still be in a transaction or watching keys, so it is closed instead. A transaction which is
+ * neither executed nor discarded within its timeout is discarded the same way, so that an abandoned transaction does
+ * not hold a connection.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 0.8.3
+ */
+public class RedisTransaction<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTransaction.class);
+
+    private RedisDataSource<K, V> redisDataSource;
+    private StatefulConnection<K, V> connection;
+    private RedisAsyncCommands<K, V> commands;
+    private RedisAsyncCommands<K, V> uncompressedCommands;
+    private boolean watching;
+    private boolean timedOut;
+    private ScheduledFuture<?> timeoutTask;
+    private List<QueuedCommand<K, V, ?>> queuedCommands = new ArrayList<>();
+
+    /**
+     * Constructor for {@link RedisTransaction}
+     *
+     * @param redisDataSource The datasource from which the connection of the transaction is obtained
+     * @param watchedKeys     The keys to be watched, which may be empty
+     * @param timeout         The time in milliseconds after which the transaction is discarded if it is neither
+     *                        executed nor discarded, or a non-positive value to never discard it
+     */
+    public RedisTransaction(RedisDataSource<K, V> redisDataSource, K[] watchedKeys, long timeout) {
+        if (redisDataSource.isClusterConnection()) {
+            throw new BallerinaException("Transactions are not supported on cluster connections");
+        }
+        this.redisDataSource = redisDataSource;
+        connection = redisDataSource.getTransactionConnection();
+        commands = ((StatefulRedisConnection<K, V>) connection).async();
+        uncompressedCommands = (RedisAsyncCommands<K, V>) redisDataSource.getAsyncCommands(connection, false);
+        if (watchedKeys.length > 0) {
+            try {
+                RedisDataSourceUtils.await(commands.watch(watchedKeys), connection.getTimeout());
+            } catch (RuntimeException e) {
+                release(false);
+                throw e;
+            }
+            watching = true;
+        }
+        if (timeout > 0) {
+            timeoutTask = redisDataSource.getScheduler().schedule(this::timeOut, timeout, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Issues a command right away, outside of the transaction, and waits for its reply. Reading a watched key this
+     * way is how the values the transaction depends on are obtained.
+     *
+     * @param command   The command to be issued on the asynchronous commands of the transaction connection
+     * @param converter The function which converts the reply into a Ballerina value
+     * @param <T>       Type of the reply
+     * @return the converted reply
+     */
+    public synchronized <T> BValue execute(Function<RedisAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, ? extends BValue> converter) {
+        checkOpen();
+        if (!queuedCommands.isEmpty()) {
+            throw new BallerinaException("Commands cannot be issued once commands are queued on the transaction");
+        }
+        CompletionStage<T> reply;
+        try {
+            reply = command.apply(commands);
+        } catch (IllegalArgumentException e) {
+            throw new BallerinaException("Arguments must not be null", e);
+        }
+        return converter.apply(RedisDataSourceUtils.await(reply, connection.getTimeout()));
+    }
+
+    /**
+     * Queues a command. The command is not written to the server until {@link #exec()} is called.
+     *
+     * @param command   The command to be issued on the asynchronous commands of the transaction connection
+     * @param converter The function which converts the reply into a Ballerina value
+     * @param <T>       Type of the reply
+     */
+    public <T> void queue(Function<RedisAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, ? extends BValue> converter) {
+        queue(command, converter, true);
+    }
+
+    /**
+     * Queues a command. The command is not written to the server until {@link #exec()} is called.
+     *
+     * @param command        The command to be issued on the asynchronous commands of the transaction connection
+     * @param converter      The function which converts the reply into a Ballerina value
+     * @param compressValues {@code false} if the values of the command are members which are compared by the server
+     *                       and so must not be compressed, see {@link CompressionCodec#uncompressedValues()}
+     * @param <T>            Type of the reply
+     */
+    public synchronized <T> void queue(Function<RedisAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, ? extends BValue> converter, boolean compressValues) {
+        checkOpen();
+        queuedCommands.add(new QueuedCommand<>(command, converter, compressValues));
+    }
+
+    /**
+     * Writes MULTI, the queued commands and EXEC to the server and waits for the replies. The connection of the
+     * transaction is handed back afterwards, or closed if the reply of EXEC was not received.
+     *
+     * @return the replies of the queued commands in the order the commands were queued, or {@code null} if the
+     * transaction was aborted because a watched key was modified
+     */
+    public synchronized List<BValue> exec() {
+        checkOpen();
+        List<CompletionStage<? extends BValue>> replies = new ArrayList<>(queuedCommands.size());
+        CompletionStage<TransactionResult> result;
+        connection.setAutoFlushCommands(false);
+        try {
+            commands.multi();
+            for (QueuedCommand<K, V, ?> queuedCommand : queuedCommands) {
+                replies.add(queuedCommand.issue(commands, uncompressedCommands));
+            }
+            result = commands.exec();
+        } catch (IllegalArgumentException e) {
+            commands.discard();
+            connection.flushCommands();
+            connection.setAutoFlushCommands(true);
+            release(false);
+            throw new BallerinaException("Arguments must not be null", e);
+        }
+        connection.flushCommands();
+        connection.setAutoFlushCommands(true);
+        watching = false;
+        boolean executed = false;
+        try {
+            TransactionResult transactionResult = RedisDataSourceUtils.await(result, connection.getTimeout());
+            executed = true;
+            if (transactionResult.wasDiscarded()) {
+                return null;
+            }
+            List<BValue> results = new ArrayList<>(replies.size());
+            for (CompletionStage<? extends BValue> reply : replies) {
+                results.add(RedisDataSourceUtils.await(reply, connection.getTimeout()));
+            }
+            return results;
+        } finally {
+            release(executed);
+        }
+    }
+
+    /**
+     * Discards the queued commands without executing them, stops watching the watched keys and hands back the
+     * connection of the transaction, or closes it if the keys could not be unwatched. Does nothing if the transaction
+     * has already been executed or discarded.
+     */
+    public synchronized void discard() {
+        if (commands == null) {
+            return;
+        }
+        boolean unwatched = false;
+        try {
+            if (watching) {
+                RedisDataSourceUtils.await(commands.unwatch(), connection.getTimeout());
+            }
+            unwatched = true;
+        } finally {
+            release(unwatched);
+        }
+    }
+
+    /**
+     * Discards the transaction if it is still open once its timeout elapses. The connection is closed, since it is
+     * not known whether it is still watching keys.
+     */
+    private synchronized void timeOut() {
+        if (commands == null) {
+            return;
+        }
+        log.warn("Discarding a transaction which was neither executed nor discarded within its timeout");
+        timedOut = true;
+        release(false);
+    }
+
+    private void checkOpen() {
+        if (timedOut) {
+            throw new BallerinaException("Transaction was discarded since it was not executed within its timeout");
+        }
+        if (commands == null) {
+            throw new BallerinaException("Transaction has already been executed or discarded");
+        }
+    }
+
+    private void release(boolean reusable) {
+        commands = null;
+        uncompressedCommands = null;
+        queuedCommands.clear();
+        if (timeoutTask != null) {
+            timeoutTask.cancel(false);
+        }
+        redisDataSource.releaseTransactionConnection(connection, reusable);
+    }
+
+    private static class QueuedCommand<K, V, T> {
+        private Function<RedisAsyncCommands<K, V>, CompletionStage<T>> command;
+        private Function<T, ? extends BValue> converter;
+        private boolean compressValues;
+
+        QueuedCommand(Function<RedisAsyncCommands<K, V>, CompletionStage<T>> command,
+                Function<T, ? extends BValue> converter, boolean compressValues) {
+            this.command = command;
+            this.converter = converter;
+            this.compressValues = compressValues;
+        }
+
+        CompletionStage<? extends BValue> issue(RedisAsyncCommands<K, V> commands,
+                RedisAsyncCommands<K, V> uncompressedCommands) {
+            return command.apply(compressValues ? commands : uncompressedCommands).thenApply(converter);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.CommandOutput;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@code ScriptReplyOutput} converts the reply of a Lua script into a Ballerina value as it is decoded. Integer
+ * replies become {@code int} values, bulk and status replies become {@code string} values, and multi-bulk replies
+ * become {@code any[]} values, nested as deep as the reply is. Nil replies and elements are {@code null}.
+ * <p>
+ * The strings are decoded as UTF-8, bypassing the value codec of the connection, since they are the values the
+ * script produced rather than values written through the codec.
+ *
+ * @param <K> Type of the Key
+ * @param <V> Type of the Value
+ * @since 0.8.3
+ */
+public class ScriptReplyOutput<K, V> extends CommandOutput<K, V, BValue> {
+
+    private final Deque<BValueArray> arrays = new ArrayDeque<>();
+    private final Deque<Integer> remaining = new ArrayDeque<>();
+
+    public ScriptReplyOutput(RedisCodec<K, V> codec) {
+        super(codec, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+        add(bytes == null ? null : new BString(StandardCharsets.UTF_8.decode(bytes).toString()));
+    }
+
+    @Override
+    public void set(long integer) {
+        add(new BInteger(integer));
+    }
+
+    @Override
+    public void multi(int count) {
+        if (count < 0) {
+            add(null);
+            return;
+        }
+        BValueArray array = new BValueArray(new BArrayType(BTypes.typeAny));
+        add(array);
+        if (count > 0) {
+            arrays.push(array);
+            remaining.push(count);
+        }
+    }
+
+    private void add(BValue value) {
+        if (arrays.isEmpty()) {
+            output = value;
+            return;
+        }
+        BValueArray array = arrays.peek();
+        array.add(array.size(), (BRefType) value);
+        int left = remaining.pop() - 1;
+        if (left > 0) {
+            remaining.push(left);
+        } else {
+            arrays.pop();
+        }
+    }
+}
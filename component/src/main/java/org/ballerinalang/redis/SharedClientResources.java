@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+
+/**
+ * {@code SharedClientResources} holds the {@link ClientResources}, that is the event loops, computation threads and
+ * timers, shared by all the Redis clients of the process. The resources are created when the first client acquires
+ * them and are shut down when the last client releases them.
+ *
+ * @since 0.8.3
+ */
+public class SharedClientResources {
+
+    private static ClientResources clientResources;
+    private static int references;
+
+    private SharedClientResources() {
+    }
+
+    /**
+     * Acquires the shared resources, creating them if no client holds them. The thread pool sizes only take effect
+     * when the resources are created.
+     *
+     * @param ioThreadPoolSize          The number of I/O threads, or a non-positive value for the default
+     * @param computationThreadPoolSize The number of computation threads, or a non-positive value for the default
+     * @return the shared {@link ClientResources}
+     */
+    public static synchronized ClientResources acquire(int ioThreadPoolSize, int computationThreadPoolSize) {
+        if (clientResources == null) {
+            clientResources = create(ioThreadPoolSize, computationThreadPoolSize);
+        }
+        references++;
+        return clientResources;
+    }
+
+    /**
+     * Releases resources acquired through {@link #acquire(int, int)}, shutting them down if no other client holds
+     * them.
+     *
+     * @param resources The resources to be released
+     */
+    public static synchronized void release(ClientResources resources) {
+        if (resources != clientResources) {
+            return;
+        }
+        references--;
+        if (references == 0) {
+            shutdown(clientResources);
+            clientResources = null;
+        }
+    }
+
+    /**
+     * Shuts down resources created through {@link #create(int, int)}, along with their latency collector which is
+     * not shut down with the resources.
+     *
+     * @param resources The resources to be shut down
+     */
+    public static void shutdown(ClientResources resources) {
+        resources.shutdown();
+        resources.commandLatencyCollector().shutdown();
+    }
+
+    /**
+     * Creates resources which are not shared with other clients.
+     *
+     * @param ioThreadPoolSize          The number of I/O threads, or a non-positive value for the default
+     * @param computationThreadPoolSize The number of computation threads, or a non-positive value for the default
+     * @return a new {@link ClientResources} instance
+     */
+    public static ClientResources create(int ioThreadPoolSize, int computationThreadPoolSize) {
+        DefaultClientResources.Builder builder = DefaultClientResources.builder()
+                .commandLatencyCollector(RedisCommandMetrics.createCollector());
+        if (ioThreadPoolSize > 0) {
+            builder.ioThreadPoolSize(ioThreadPoolSize);
+        }
+        if (computationThreadPoolSize > 0) {
+            builder.computationThreadPoolSize(computationThreadPoolSize);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.RedisCodec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * {@code SlotPartitioner} issues a multi-key command on a Redis Cluster as one command per hash slot. The commands of
+ * all the slots are dispatched concurrently, and their replies are reassembled in the order of the given keys.
+ * <p>
+ * Commands issued through the cluster API of Lettuce, such as {@code MGET}, {@code MSET} and {@code DEL}, are already
+ * partitioned by slot. This is required for commands issued through {@code dispatch}, which are routed by their first
+ * key only and fail with a {@code CROSSSLOT} error when their keys span several slots.
+ *
+ * @since 0.8.3
+ */
+public class SlotPartitioner {
+
+    private SlotPartitioner() {
+    }
+
+    /**
+     * Issues a command which replies with one element per key, once for the keys of each hash slot.
+     *
+     * @param codec   The codec used to encode the keys
+     * @param keys    The keys of the command
+     * @param command The function which issues the command for the keys of a slot
+     * @param <K>     Type of the Key
+     * @param <T>     Type of the elements of the reply
+     * @return the elements of the replies, in the order of the given keys
+     */
+    public static <K, T> CompletionStage<List<T>> dispatchBySlot(RedisCodec<K, ?> codec, K[] keys,
+            Function<List<K>, CompletionStage<List<T>>> command) {
+        List<K> keyList = Arrays.asList(keys);
+        Map<Integer, List<K>> partitions = SlotHash.partition(codec, keyList);
+        if (partitions.size() < 2) {
+            return command.apply(keyList);
+        }
+        Map<Integer, CompletableFuture<List<T>>> replies = new HashMap<>(partitions.size());
+        partitions.forEach((slot, slotKeys) -> replies.put(slot, command.apply(slotKeys).toCompletableFuture()));
+        Map<K, Integer> slots = SlotHash.getSlots(partitions);
+        return CompletableFuture.allOf(replies.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<Integer, Iterator<T>> slotResults = new HashMap<>(replies.size());
+            replies.forEach((slot, reply) -> slotResults.put(slot, reply.join().iterator()));
+            List<T> result = new ArrayList<>(keys.length);
+            for (K key : keys) {
+                result.add(slotResults.get(slots.get(key)).next());
+            }
+            return result;
+        });
+    }
+}
@@ -18,18 +18,34 @@
 
 package org.ballerinalang.redis.actions;
 
+import io.lettuce.core.KeyScanCursor;
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.Limit;
+import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.Range;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
 import io.lettuce.core.ScoredValue;
-import io.lettuce.core.api.sync.RedisCommands;
-import io.lettuce.core.api.sync.RedisHashCommands;
-import io.lettuce.core.api.sync.RedisKeyCommands;
-import io.lettuce.core.api.sync.RedisListCommands;
-import io.lettuce.core.api.sync.RedisSetCommands;
-import io.lettuce.core.api.sync.RedisSortedSetCommands;
-import io.lettuce.core.api.sync.RedisStringCommands;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.output.BooleanOutput;
+import io.lettuce.core.output.ByteArrayOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
 import org.ballerinalang.bre.Context;
-import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.bre.bvm.CallableUnitCallback;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.model.NativeCallableUnit;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BType;
 import org.ballerinalang.model.values.BBoolean;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
@@ -37,1520 +53,973 @@ import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.redis.BStringArrayChannel;
+import org.ballerinalang.redis.BStringMapChannel;
+import org.ballerinalang.redis.BinaryValueListOutput;
+import org.ballerinalang.redis.ClusterScan;
+import org.ballerinalang.redis.Constants;
 import org.ballerinalang.redis.RedisDataSource;
+import org.ballerinalang.redis.RedisDataSourceUtils;
+import org.ballerinalang.redis.ScriptReplyOutput;
+import org.ballerinalang.redis.SlotPartitioner;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * {@code {@link AbstractRedisAction}} is the base class for all Redis connector actions.
  *
  * @since 0.5.0
  */
-public abstract class AbstractRedisAction extends BlockingNativeCallableUnit {
+public abstract class AbstractRedisAction implements NativeCallableUnit {
     protected static final String MUST_NOT_BE_NULL = "must not be null";
     private static final String KEY_MUST_NOT_BE_NULL = "Key " + MUST_NOT_BE_NULL;
     private static final String KEYS_MUST_NOT_BE_NULL = "Key(s) " + MUST_NOT_BE_NULL;
     private static final String ARGUMENTS_MUST_NOT_BE_NULL = "Arguments " + MUST_NOT_BE_NULL;
+    private static final ThreadLocal<PendingResult> PENDING_RESULT = new ThreadLocal<>();
+    private static final Set<ProtocolKeyword> MEMBER_COMMANDS = new HashSet<>(Arrays.asList(CommandType.LPUSH,
+            CommandType.LPUSHX, CommandType.RPUSH, CommandType.RPUSHX, CommandType.LINSERT, CommandType.LSET,
+            CommandType.LREM, CommandType.SADD, CommandType.SREM, CommandType.SISMEMBER, CommandType.SMOVE,
+            CommandType.ZADD, CommandType.ZINCRBY, CommandType.ZREM, CommandType.ZSCORE, CommandType.ZRANK,
+            CommandType.ZREVRANK, CommandType.ZRANGEBYLEX, CommandType.ZREVRANGEBYLEX, CommandType.ZLEXCOUNT,
+            CommandType.ZREMRANGEBYLEX));
 
     protected AbstractRedisAction() {
     }
-    
-    private <K, V> Object getRedisCommands(RedisDataSource<K, V> redisDataSource) {
-        if (isClusterConnection(redisDataSource)) {
-            return redisDataSource.getRedisClusterCommands();
-        } else {
-            return redisDataSource.getRedisCommands();
+
+    @Override
+    public void execute(Context context, CallableUnitCallback callback) {
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisDataSource redisDataSource = (RedisDataSource) bConnector.getNativeData(Constants.CLIENT);
+        if (redisDataSource == null || !(redisDataSource.isAsyncEnabled() || isBlockingCommand())) {
+            execute(context);
+            callback.notifySuccess();
+            return;
+        }
+        PendingResult pendingResult = new PendingResult();
+        PENDING_RESULT.set(pendingResult);
+        try {
+            execute(context);
+        } catch (Throwable e) {
+            // The caller waits on the callback, so a failure to issue the command is returned as an error
+            context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
+            callback.notifySuccess();
+            return;
+        } finally {
+            PENDING_RESULT.remove();
         }
+        pendingResult.complete(context, callback);
+    }
+
+    /**
+     * Executes the action. In async mode the return values are set once the reply of the issued command arrives.
+     *
+     * @param context The context of the action invocation
+     */
+    public abstract void execute(Context context);
+
+    @Override
+    public boolean isBlocking() {
+        return false;
+    }
+
+    /**
+     * Whether the action issues a command which blocks until an element is available, such as {@code BLPOP}. Such
+     * actions always complete through the callback of the invocation, so that the worker thread of the caller is
+     * not held while the command waits, regardless of the async mode of the client.
+     *
+     * @return {@code true} if the action issues a blocking command
+     */
+    protected boolean isBlockingCommand() {
+        return false;
     }
 
     //String Commands
 
     protected <K, V> BString set(K key, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            return new BString(redisCommands.set(key, value));
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.set(key, value), BString::new);
     }
 
     protected <K> BString get(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.get(key);
-            return result == null ? null : new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.get(key), result -> result == null ? null : new BString(result));
     }
 
     protected BInteger append(String key, String value, RedisDataSource<String, String> redisDataSource) {
-        RedisStringCommands<String, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<String, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.append(key, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.append(key, value), BInteger::new);
     }
 
     protected BInteger bitCount(String key, RedisDataSource<String, String> redisDataSource) {
-        RedisStringCommands<String, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<String, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.bitcount(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.bitcount(key), BInteger::new);
     }
 
     protected <K, V> BInteger bitopAnd(K destination, RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.bitopAnd(destination, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.bitopAnd(destination, keys), BInteger::new);
     }
 
     protected <K, V> BInteger bitopOr(K destination, RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.bitopOr(destination, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.bitopOr(destination, keys), BInteger::new);
     }
 
     protected <K, V> BInteger bitopNot(K destination, K key, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.bitopNot(destination, key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.bitopNot(destination, key), BInteger::new);
     }
 
     protected <K, V> BInteger bitopXor(K destination, RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.bitopXor(destination, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.bitopXor(destination, keys), BInteger::new);
     }
 
     protected <K, V> BInteger decr(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.decr(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.decr(key), BInteger::new);
     }
 
     protected <K, V> BInteger decrBy(K key, int value, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.decrby(key, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.decrby(key, value), BInteger::new);
     }
 
     protected <K, V> BInteger getBit(K key, int offset, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.getbit(key, offset);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.getbit(key, offset), BInteger::new);
     }
 
     protected <K> BString getRange(K key, int start, int end, RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.getrange(key, start, end);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.getrange(key, start, end), BString::new);
     }
 
     protected <K> BString getSet(K key, String value, RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.getset(key, value);
-            return result == null ? null : new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.getset(key, value), result -> result == null ? null : new BString(result));
     }
 
     protected <K, V> BInteger incr(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.incr(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.incr(key), BInteger::new);
     }
 
     protected <K, V> BInteger incrBy(K key, int value, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.incrby(key, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.incrby(key, value), BInteger::new);
     }
 
     protected <K, V> BFloat incrByFloat(K key, double value, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Double result = redisCommands.incrbyfloat(key, value);
-            return new BFloat(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.incrbyfloat(key, value), BFloat::new);
     }
 
     protected <K> BMap mGet(RedisDataSource<K, String> redisDataSource, K... key) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            List<KeyValue<K, String>> result = redisCommands.mget(key);
-            return createBMapFromKeyValueList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.mget(key), this::createBMapFromKeyValueList);
     }
 
     protected <K, V> BString mSet(Map<K, V> map, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.mset(map);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.mset(map), BString::new);
     }
 
     protected <K, V> BBoolean mSetnx(Map<K, V> map, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.msetnx(map);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.msetnx(map), BBoolean::new);
     }
 
     protected <K> BString pSetex(K key, String value, long expirationPeriodMS,
             RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.psetex(key, expirationPeriodMS, value);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.psetex(key, expirationPeriodMS, value), BString::new);
     }
 
     protected <K, V> BInteger setBit(K key, int value, long offset, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.setbit(key, offset, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.setbit(key, offset, value), BInteger::new);
     }
 
     protected <K> BString setEx(K key, String value, long expirationPeriodSeconds,
             RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.setex(key, expirationPeriodSeconds, value);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.setex(key, expirationPeriodSeconds, value), BString::new);
     }
 
     protected <K> BBoolean setNx(K key, String value, RedisDataSource<K, String> redisDataSource) {
-        RedisStringCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, String>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.setnx(key, value);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.setnx(key, value), BBoolean::new);
     }
 
     protected <K, V> BInteger setRange(K key, long offset, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            long result = redisCommands.setrange(key, offset, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.setrange(key, offset, value), BInteger::new);
     }
 
     protected <K, V> BInteger strln(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisStringCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisStringCommands<K, V>) getRedisCommands(redisDataSource);
-            long result = redisCommands.strlen(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.strlen(key), BInteger::new);
+    }
+
+    // Binary values are written and read as raw bytes, bypassing the value codec of the connection
+
+    protected <K, V> BValueArray getBytes(K key, RedisDataSource<K, V> redisDataSource) {
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.dispatch(CommandType.GET, new ByteArrayOutput<>(codec),
+                        new CommandArgs<>(codec).addKey(key)), this::createBByteArray);
+    }
+
+    protected <K, V> BString setBytes(K key, byte[] value, RedisDataSource<K, V> redisDataSource) {
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.dispatch(CommandType.SET, new StatusOutput<>(codec),
+                        new CommandArgs<>(codec).addKey(key).add(value)), BString::new);
+    }
+
+    protected <K, V> BMap<K, BValueArray> mGetBytes(RedisDataSource<K, V> redisDataSource, K... keys) {
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        Function<RedisClusterAsyncCommands<K, V>, CompletionStage<List<byte[]>>> command;
+        if (redisDataSource.isClusterConnection()) {
+            command = commands -> SlotPartitioner.dispatchBySlot(codec, keys,
+                    slotKeys -> commands.dispatch(CommandType.MGET, new BinaryValueListOutput<>(codec),
+                            new CommandArgs<>(codec).addKeys(slotKeys)));
+        } else {
+            command = commands -> commands.dispatch(CommandType.MGET, new BinaryValueListOutput<>(codec),
+                    new CommandArgs<>(codec).addKeys(keys));
         }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL, command,
+                values -> createBMapFromBinaryValues(keys, values));
     }
 
     //List Commands
     protected <K, V> BInteger lPush(K key, RedisDataSource<K, V> redisDataSource, V... value) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.lpush(key, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lpush(key, value), BInteger::new);
     }
 
     protected <K> BString lPop(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.lpop(key);
-            return result == null ? null : new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lpop(key), result -> result == null ? null : new BString(result));
     }
 
     protected <K, V> BInteger lPushX(K key, RedisDataSource<K, V> redisDataSource, V... values) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.lpushx(key, values);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.lpushx(key, values), BInteger::new);
     }
 
     protected <K> BMap<K, BString> bLPop(long timeout, RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            KeyValue<K, String> result = redisCommands.blpop(timeout, keys);
-            if (result != null) {
-                BMap<K, BString> bMap = new BMap<>();
-                bMap.put(result.getKey(), new BString(result.getValue()));
-                return bMap;
-            } else {
-                return null;
-            }
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeBlockingCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.blpop(timeout, keys), this::createBMapFromKeyValue);
     }
 
     protected <K> BMap<K, BString> bRPop(long timeout, RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            KeyValue<K, String> result = redisCommands.brpop(timeout, keys);
-            if (result != null) {
-                BMap<K, BString> bMap = new BMap<>();
-                bMap.put(result.getKey(), new BString(result.getValue()));
-                return bMap;
-            } else {
-                return null;
-            }
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeBlockingCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.brpop(timeout, keys), this::createBMapFromKeyValue);
     }
 
     protected <K> BString brPopLPush(K source, K destination, long timeout,
             RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.brpoplpush(timeout, source, destination);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeBlockingCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.brpoplpush(timeout, source, destination),
+                result -> result == null ? null : new BString(result));
     }
 
     protected <K> BString lIndex(K key, long index, RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.lindex(key, index);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lindex(key, index), BString::new);
     }
 
     protected <K, V> BInteger lInsert(K key, boolean before, V pivot, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.linsert(key, before, pivot, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.linsert(key, before, pivot, value), BInteger::new);
     }
 
     protected <K, V> BInteger lLen(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.llen(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.llen(key), BInteger::new);
     }
 
     protected <K> BValueArray lRange(K key, long start, long stop, RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.lrange(key, start, stop);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lrange(channel, key, start, stop), count -> channel.getValues());
     }
 
     protected <K, V> BInteger lRem(K key, long count, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.lrem(key, count, value);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lrem(key, count, value), BInteger::new);
     }
 
     protected <K, V> BString lSet(K key, long index, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.lset(key, index, value);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.lset(key, index, value), BString::new);
     }
 
     protected <K, V> BString lTrim(K key, long start, long stop, RedisDataSource<K, V> redisDataSource) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.ltrim(key, start, stop);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.ltrim(key, start, stop), BString::new);
     }
 
     protected <K> BString rPop(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.rpop(key);
-            return result == null ? null : new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.rpop(key), result -> result == null ? null : new BString(result));
     }
 
     protected <K> BString rPopLPush(K source, K destination, RedisDataSource<K, String> redisDataSource) {
-        RedisListCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.rpoplpush(source, destination);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.rpoplpush(source, destination), BString::new);
     }
 
     protected <K, V> BInteger rPush(K key, RedisDataSource<K, V> redisDataSource, V... values) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.rpush(key, values);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.rpush(key, values), BInteger::new);
     }
 
     protected <K, V> BInteger rPushX(K key, RedisDataSource<K, V> redisDataSource, V... values) {
-        RedisListCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisListCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.rpushx(key, values);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.rpushx(key, values), BInteger::new);
     }
 
     //Set Commands
 
     protected <K, V> BInteger sAdd(K key, RedisDataSource<K, V> redisDataSource, V... values) {
-        RedisSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.sadd(key, values);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.sadd(key, values), BInteger::new);
     }
 
     protected <K, V> BInteger sCard(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.scard(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.scard(key), BInteger::new);
     }
 
     protected <K> BValueArray sDiff(RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Set<String> result = redisCommands.sdiff(keys);
-            BValueArray valueArray = createBStringArrayFromSet(result);
-            return valueArray;
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.sdiff(keys), this::createBStringArrayFromSet);
     }
 
     protected <K> BInteger sDiffStore(K dest, RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.sdiffstore(dest, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.sdiffstore(dest, keys), BInteger::new);
     }
 
     protected <K> BValueArray sInter(RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Set<String> result = redisCommands.sinter(keys);
-            return createBStringArrayFromSet(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.sinter(keys), this::createBStringArrayFromSet);
     }
 
     protected <K> BInteger sInterStore(K dest, RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.sinterstore(dest, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.sinterstore(dest, keys), BInteger::new);
     }
 
     protected <K, V> BBoolean sIsMember(K key, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.sismember(key, value);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.sismember(key, value), BBoolean::new);
     }
 
     protected <K> BValueArray sMembers(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Set<String> result = redisCommands.smembers(key);
-            return createBStringArrayFromSet(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.smembers(channel, key), count -> channel.getValues());
+    }
+
+    protected <K> BMap<String, BValue> sScan(K key, String cursor, ScanArgs scanArgs,
+            RedisDataSource<K, String> redisDataSource, Context context) {
+        return executeCommand(redisDataSource, "Key/cursor " + MUST_NOT_BE_NULL,
+                commands -> commands.sscan(key, ScanCursor.of(cursor), scanArgs),
+                result -> createScanResult(context, Constants.SCAN_RESULT_RECORD_NAME, result,
+                        createBStringArrayFromList(result.getValues())));
     }
 
     protected <K, V> BBoolean sMove(K source, K dest, V member, RedisDataSource<K, V> redisDataSource) {
-        RedisSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.smove(source, dest, member);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.smove(source, dest, member), BBoolean::new);
     }
 
     protected <K> BValueArray sPop(K key, int count, RedisDataSource<K, String> redisDataSource) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Set<String> result = redisCommands.spop(key, count);
-            return (result == null || result.isEmpty()) ? null : createBStringArrayFromSet(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.spop(key, count),
+                result -> (result == null || result.isEmpty()) ? null : createBStringArrayFromSet(result));
     }
 
     protected <K> BValueArray sRandMember(K key, int count, RedisDataSource<K, String> redisDataSource) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.srandmember(key, count);
-            return (result == null || result.isEmpty()) ? null : createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.srandmember(key, count),
+                result -> (result == null || result.isEmpty()) ? null : createBStringArrayFromList(result));
     }
 
     protected <K> BInteger sRem(K key, RedisDataSource<K, String> redisDataSource, String... members) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.srem(key, members);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.srem(key, members), BInteger::new);
     }
 
     protected <K> BValueArray sUnion(RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Set<String> result = redisCommands.sunion(keys);
-            return createBStringArrayFromSet(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL,
+                commands -> commands.sunion(keys), this::createBStringArrayFromSet);
     }
 
     protected <K> BInteger sUnionStore(K dest, RedisDataSource<K, String> redisDataSource, K... keys) {
-        RedisSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.sunionstore(dest, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Argements " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Argements " + MUST_NOT_BE_NULL,
+                commands -> commands.sunionstore(dest, keys), BInteger::new);
     }
 
     protected <K, V> void close(RedisDataSource<K, V> redisDataSource) {
-        if (isClusterConnection(redisDataSource)) {
-            if (redisDataSource.isPoolingEnabled()) {
-                redisDataSource.closeConnectionPool();
-            } else {
-                redisDataSource.getRedisClusterCommands().quit();
-            }
-        } else {
-            if (redisDataSource.isPoolingEnabled()) {
-                redisDataSource.closeConnectionPool();
-            } else {
-                redisDataSource.getRedisCommands().quit();
-            }
-        }
+        redisDataSource.close();
     }
 
     // Sorted Set Commands
 
-    protected <K, V> BInteger zAdd(K key, RedisDataSource<K, V> redisDataSource, Map<V, Double> valueScoreMap) {
-        ScoredValue<V>[] scoredValues = createArrayFromScoredValueMap(valueScoreMap);
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zadd(key, scoredValues);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Members " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+    protected <K, V> BInteger zAdd(K key, RedisDataSource<K, V> redisDataSource, ScoredValue<V>[] scoredValues) {
+        return executeCommand(redisDataSource, "Members " + MUST_NOT_BE_NULL,
+                commands -> commands.zadd(key, scoredValues), BInteger::new);
     }
 
     protected <K, V> BInteger zCard(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zcard(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.zcard(key), BInteger::new);
     }
 
     protected <K, V> BInteger zCount(K key, double min, double max, RedisDataSource<K, V> redisDataSource) {
         Range<Double> range = Range.create(min, max);
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zcount(key, range);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zcount(key, range), BInteger::new);
     }
 
     protected <K, V> BFloat zIncrBy(K key, double amount, V member, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Double result = redisCommands.zincrby(key, amount, member);
-            return new BFloat(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zincrby(key, amount, member), BFloat::new);
     }
 
     protected <K, V> BInteger zInterStore(K dest, RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zinterstore(dest, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zinterstore(dest, keys), BInteger::new);
     }
 
     protected <K, V> BInteger zLexCount(K key, V min, V max, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Range<V> range = Range.create(min, max);
-            Long result = redisCommands.zlexcount(key, range);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<V> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zlexcount(key, range), BInteger::new);
     }
 
     protected <K> BValueArray zRange(K key, long min, long max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.zrange(key, min, max);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zrange(channel, key, min, max), count -> channel.getValues());
     }
 
     protected <K> BValueArray zRangeByLex(K key, String min, String max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<String> range = Range.create(min, max);
-            List<String> result = redisCommands.zrangebylex(key, range);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<String> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zrangebylex(key, range), this::createBStringArrayFromList);
     }
 
     protected <K> BValueArray zRevRangeByLex(K key, String min, String max,
-            RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<String> range = Range.create(min, max);
-            List<String> result = redisCommands.zrevrangebylex(key, range);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Arguments" + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+            RedisDataSource<K, String> redisDataSource) {
+        Range<String> range = Range.create(min, max);
+        return executeCommand(redisDataSource, "Arguments" + MUST_NOT_BE_NULL,
+                commands -> commands.zrevrangebylex(key, range), this::createBStringArrayFromList);
     }
 
     protected <K> BValueArray zRangeByScore(K key, double min, double max,
             RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<Double> range = Range.create(min, max);
-            List<String> result = redisCommands.zrangebyscore(key, range);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<Double> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zrangebyscore(key, range), this::createBStringArrayFromList);
     }
 
     protected <K, V> BInteger zRank(K key, V member, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zrank(key, member);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zrank(key, member), BInteger::new);
     }
 
     protected <K, V> BInteger zRem(K key, RedisDataSource<K, V> redisDataSource, V... members) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zrem(key, members);
-            return new BInteger(result);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zrem(key, members), BInteger::new);
     }
 
     protected <K> BInteger zRemRangeByLex(K key, String min, String max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<String> range = Range.create(min, max);
-            Long result = redisCommands.zremrangebylex(key, range);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<String> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zremrangebylex(key, range), BInteger::new);
     }
 
     protected <K> BInteger zRemRangeByRank(K key, long min, long max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zremrangebyrank(key, min, max);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zremrangebyrank(key, min, max), BInteger::new);
     }
 
     protected <K> BInteger zRemRangeByScore(K key, double min, double max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<Double> range = Range.create(min, max);
-            Long result = redisCommands.zremrangebyscore(key, range);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<Double> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zremrangebyscore(key, range), BInteger::new);
     }
 
     protected <K> BValueArray zRevRange(K key, long min, long max, RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.zrevrange(key, min, max);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zrevrange(channel, key, min, max), count -> channel.getValues());
     }
 
     protected <K> BValueArray zRevRangeByScore(K key, double min, double max,
             RedisDataSource<K, String> redisDataSource) {
-        RedisSortedSetCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, String>) getRedisCommands(redisDataSource);
-            Range<Double> range = Range.create(min, max);
-            List<String> result = redisCommands.zrevrangebyscore(key, range);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(ARGUMENTS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        Range<Double> range = Range.create(min, max);
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.zrevrangebyscore(key, range), this::createBStringArrayFromList);
     }
 
     protected <K, V> BInteger zRevRank(K key, V member, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zrevrank(key, member);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zrevrank(key, member), BInteger::new);
     }
 
     protected <K, V> BFloat zScore(K key, V member, RedisDataSource<K, V> redisDataSource) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            double result = redisCommands.zscore(key, member);
-            return new BFloat(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.zscore(key, member), BFloat::new);
+    }
+
+    protected <K> BMap<String, BValue> zScan(K key, String cursor, ScanArgs scanArgs,
+            RedisDataSource<K, String> redisDataSource, Context context) {
+        return executeCommand(redisDataSource, "Key/cursor " + MUST_NOT_BE_NULL,
+                commands -> commands.zscan(key, ScanCursor.of(cursor), scanArgs),
+                result -> createScanResult(context, Constants.SORTED_SET_SCAN_RESULT_RECORD_NAME, result,
+                        createBMapFromScoredValues(result.getValues())));
     }
 
     protected <K, V> BInteger zUnionStore(K dest, RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisSortedSetCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisSortedSetCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.zunionstore(dest, keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Destination key/source key(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Destination key/source key(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.zunionstore(dest, keys), BInteger::new);
     }
 
     // Hash Commands
 
     protected <K, V> BInteger hDel(K key, RedisDataSource<K, V> redisDataSource, K... fields) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.hdel(key, fields);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.hdel(key, fields), BInteger::new);
     }
 
     protected <K, V> BBoolean hExists(K key, K field, RedisDataSource<K, V> redisDataSource) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.hexists(key, field);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.hexists(key, field), BBoolean::new);
     }
 
     protected <K> BString hGet(K key, K field, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.hget(key, field);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.hget(key, field), BString::new);
     }
 
     protected <K> BMap<K, BString> hGetAll(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            Map<K, String> result = redisCommands.hgetall(key);
-            return createBMapFromMap(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringMapChannel<K> channel = new BStringMapChannel<>();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.hgetall(channel, key), count -> channel.getEntries());
     }
 
     protected <K> BInteger hIncrBy(K key, K field, long amount, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.hincrby(key, field, amount);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.hincrby(key, field, amount), BInteger::new);
     }
 
     protected <K> BFloat hIncrByFloat(K key, K field, double amount, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            Double result = redisCommands.hincrbyfloat(key, field, amount);
-            return new BFloat(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hincrbyfloat(key, field, amount), BFloat::new);
     }
 
     protected BValueArray hKeys(String key, RedisDataSource<String, String> redisDataSource) {
-        RedisHashCommands<String, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<String, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.hkeys(key);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.hkeys(key), this::createBStringArrayFromList);
     }
 
     protected <K> BInteger hLen(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.hlen(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hlen(key), BInteger::new);
     }
 
     protected <K> BMap<K, BString> hMGet(K key, RedisDataSource<K, String> redisDataSource, K... fields) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            List<KeyValue<K, String>> result = redisCommands.hmget(key, fields);
-            return createBMapFromKeyValueList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field(s) " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.hmget(key, fields), this::createBMapFromKeyValueList);
     }
 
     protected <K, V> BString hMSet(K key, Map<K, V> fieldValueMap, RedisDataSource<K, V> redisDataSource) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.hmset(key, fieldValueMap);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hmset(key, fieldValueMap), BString::new);
     }
 
     protected <K, V> BBoolean hSet(K key, K field, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.hset(key, field, value);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hset(key, field, value), BBoolean::new);
     }
 
     protected <K, V> BBoolean hSetNx(K key, K field, V value, RedisDataSource<K, V> redisDataSource) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.hsetnx(key, field, value);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hsetnx(key, field, value), BBoolean::new);
     }
 
     protected <K, V> BInteger hStrln(K key, K field, RedisDataSource<K, V> redisDataSource) {
-        RedisHashCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, V>) getRedisCommands(redisDataSource);
-            long result = redisCommands.hstrlen(key, field);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Key/field " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.hstrlen(key, field), BInteger::new);
+    }
+
+    protected <K, V> BValueArray hGetBytes(K key, K field, RedisDataSource<K, V> redisDataSource) {
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        return executeCommand(redisDataSource, "Key/field(s) " + MUST_NOT_BE_NULL,
+                commands -> commands.dispatch(CommandType.HGET, new ByteArrayOutput<>(codec),
+                        new CommandArgs<>(codec).addKey(key).addKey(field)), this::createBByteArray);
+    }
+
+    protected <K, V> BBoolean hSetBytes(K key, K field, byte[] value, RedisDataSource<K, V> redisDataSource) {
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        return executeCommand(redisDataSource, "Key/field " + MUST_NOT_BE_NULL,
+                commands -> commands.dispatch(CommandType.HSET, new BooleanOutput<>(codec),
+                        new CommandArgs<>(codec).addKey(key).addKey(field).add(value)), BBoolean::new);
     }
 
     protected <K> BValueArray hVals(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisHashCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisHashCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.hvals(key);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.hvals(channel, key), count -> channel.getValues());
+    }
+
+    protected <K> BMap<String, BValue> hScan(K key, String cursor, ScanArgs scanArgs,
+            RedisDataSource<K, String> redisDataSource, Context context) {
+        return executeCommand(redisDataSource, "Key/cursor " + MUST_NOT_BE_NULL,
+                commands -> commands.hscan(key, ScanCursor.of(cursor), scanArgs),
+                result -> createScanResult(context, Constants.HASH_SCAN_RESULT_RECORD_NAME, result,
+                        createBMapFromMap(result.getMap())));
     }
 
     // Key commands
     protected <K, V> BInteger del(RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.del(keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.del(keys), BInteger::new);
     }
 
-    // TODO: Add as a native action once byte type is supported in ballerina. When doing so retrun a BType
-    protected <K, V> byte[] dump(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            byte[] result = redisCommands.dump(key);
-            return result;
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+    protected <K, V> BValueArray dump(K key, RedisDataSource<K, V> redisDataSource) {
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.dump(key),
+                this::createBByteArray);
     }
 
     protected <K, V> BInteger exists(RedisDataSource<K, V> redisDataSource, K... keys) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            Long result = redisCommands.exists(keys);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEYS_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEYS_MUST_NOT_BE_NULL, commands -> commands.exists(keys), BInteger::new);
     }
 
     protected <K, V> BBoolean expire(K key, long seconds, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.expire(key, seconds);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.expire(key, seconds), BBoolean::new);
     }
 
     protected <V> BValueArray keys(String pattern, RedisDataSource<String, V> redisDataSource) {
-        RedisKeyCommands<String, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<String, V>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.keys(pattern);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.keys(pattern), this::createBStringArrayFromList);
+    }
+
+    protected <V> BMap<String, BValue> scan(String cursor, ScanArgs scanArgs, int parallelism,
+            RedisDataSource<String, V> redisDataSource, Context context) {
+        Function<RedisClusterAsyncCommands<String, V>, CompletionStage<KeyScanCursor<String>>> command;
+        if (redisDataSource.isClusterConnection()) {
+            command = commands -> ClusterScan.scan((RedisAdvancedClusterAsyncCommands<String, V>) commands, cursor,
+                    scanArgs, parallelism);
+        } else {
+            command = commands -> commands.scan(ScanCursor.of(cursor), scanArgs);
         }
+        return executeCommand(redisDataSource, "Cursor " + MUST_NOT_BE_NULL, command,
+                result -> createScanResult(context, Constants.SCAN_RESULT_RECORD_NAME, result,
+                        createBStringArrayFromList(result.getKeys())));
     }
 
     protected <K, V> BBoolean move(K key, int db, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.move(key, db);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.move(key, db), BBoolean::new);
     }
 
     protected <K, V> BBoolean persist(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.persist(key);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.persist(key), BBoolean::new);
     }
 
     protected <K, V> BBoolean pExpire(K key, long milliSeconds, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.pexpire(key, milliSeconds);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.pexpire(key, milliSeconds), BBoolean::new);
     }
 
     protected <K, V> BInteger pTtl(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            long result = redisCommands.pttl(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.pttl(key), BInteger::new);
     }
 
     protected <K> BString randomKey(RedisDataSource<K, String> redisDataSource) {
-        RedisKeyCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.randomkey();
-            return result == null ? null : new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.randomkey(), result -> result == null ? null : new BString(result));
     }
 
     protected <K> BString rename(K key, K newName, RedisDataSource<K, String> redisDataSource) {
-        RedisKeyCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.rename(key, newName);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.rename(key, newName), BString::new);
     }
 
     protected <K> BBoolean renameNx(K key, K newName, RedisDataSource<K, String> redisDataSource) {
-        RedisKeyCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, String>) getRedisCommands(redisDataSource);
-            boolean result = redisCommands.renamenx(key, newName);
-            return new BBoolean(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.renamenx(key, newName), BBoolean::new);
     }
 
     protected <K> BValueArray sort(K key, RedisDataSource<K, String> redisDataSource) {
-        RedisKeyCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, String>) getRedisCommands(redisDataSource);
-            List<String> result = redisCommands.sort(key);
-            return createBStringArrayFromList(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        BStringArrayChannel channel = new BStringArrayChannel();
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.sort(channel, key), count -> channel.getValues());
     }
 
     protected <K, V> BInteger ttl(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            long result = redisCommands.ttl(key);
-            return new BInteger(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.ttl(key), BInteger::new);
     }
 
     protected <K, V> BString type(K key, RedisDataSource<K, V> redisDataSource) {
-        RedisKeyCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisKeyCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.type(key);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException(KEY_MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.type(key), BString::new);
     }
 
     //Connection commands
 
     protected <K, V> BString auth(String password, RedisDataSource<K, V> redisDataSource) {
-        RedisCommands<K, V> redisCommands = null;
-        try {
-            redisCommands = (RedisCommands<K, V>) getRedisCommands(redisDataSource);
-            String result = redisCommands.auth(password);
-            return new BString(result);
-        } catch (IllegalArgumentException e) {
-            throw new BallerinaException("Password " + MUST_NOT_BE_NULL);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        // auth() of the async API waits for its own reply, which never arrives on a connection flushed by the batcher
+        RedisCodec<K, V> codec = redisDataSource.getCodec();
+        return executeCommand(redisDataSource, "Password " + MUST_NOT_BE_NULL,
+                commands -> commands.dispatch(CommandType.AUTH, new StatusOutput<>(codec),
+                        new CommandArgs<>(codec).add(password)), BString::new);
     }
 
     protected <K> BString echo(String message, RedisDataSource<K, String> redisDataSource) {
-        RedisCommands<K, String> redisCommands = null;
-        try {
-            redisCommands = (RedisCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.echo(message);
-            return new BString(result);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
-        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.echo(message), BString::new);
     }
 
     protected <K> BString ping(RedisDataSource<K, String> redisDataSource) {
-        RedisCommands<K, String> redisCommands = null;
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL, commands -> commands.ping(), BString::new);
+    }
+
+    //Pub/Sub commands
+
+    protected <K, V> BInteger publish(K channel, V message, RedisDataSource<K, V> redisDataSource) {
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> commands.publish(channel, message), BInteger::new);
+    }
+
+    //Stream commands
+
+    protected BString xAdd(String key, String id, long maxLength, Map<String, String> fields,
+            RedisDataSource<String, String> redisDataSource) {
+        XAddArgs xAddArgs = new XAddArgs().id(id);
+        if (maxLength >= 0) {
+            // Approximate trimming lets the server drop whole macro nodes, which keeps XADD constant time
+            xAddArgs.maxlen(maxLength).approximateTrimming();
+        }
+        return executeCommand(redisDataSource, "Key/fields " + MUST_NOT_BE_NULL,
+                commands -> commands.xadd(key, xAddArgs, fields), BString::new);
+    }
+
+    protected BValueArray xRange(String key, String start, String end, long count,
+            RedisDataSource<String, String> redisDataSource, Context context) {
+        Limit limit = count < 0 ? Limit.unlimited() : Limit.from(count);
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL,
+                commands -> commands.xrange(key, Range.create(start, end), limit),
+                result -> createStreamEntryArray(context, result));
+    }
+
+    protected <K, V> BInteger xLen(K key, RedisDataSource<K, V> redisDataSource) {
+        return executeCommand(redisDataSource, KEY_MUST_NOT_BE_NULL, commands -> commands.xlen(key), BInteger::new);
+    }
+
+    //Scripting commands
+
+    protected <K> BValue eval(String script, K[] keys, String[] args, RedisDataSource<K, String> redisDataSource) {
+        String digest = redisDataSource.getScriptDigest(script);
+        if (digest != null) {
+            return evalSha(digest, keys, args, redisDataSource);
+        }
+        return executeCommand(redisDataSource, ARGUMENTS_MUST_NOT_BE_NULL,
+                commands -> dispatchScript(commands, CommandType.EVAL, script, keys, args, redisDataSource),
+                Function.identity());
+    }
+
+    protected <K> BValue evalSha(String digest, K[] keys, String[] args, RedisDataSource<K, String> redisDataSource) {
+        String script = redisDataSource.getScript(digest);
+        StatefulConnection<K, String> connection = redisDataSource.getConnection();
+        return executeCommand(redisDataSource, connection, redisDataSource::releaseConnection,
+                ARGUMENTS_MUST_NOT_BE_NULL, commands -> {
+                    CompletionStage<BValue> reply =
+                            dispatchScript(commands, CommandType.EVALSHA, digest, keys, args, redisDataSource);
+                    if (script == null) {
+                        return reply;
+                    }
+                    CompletableFuture<BValue> result = new CompletableFuture<>();
+                    reply.whenComplete((value, throwable) -> {
+                        if (throwable == null) {
+                            result.complete(value);
+                        } else if (!isNoScriptError(throwable)) {
+                            result.completeExceptionally(throwable);
+                        } else {
+                            // The node the command reached does not have the script cached, such as a replica
+                            // promoted by a failover, so the script is sent along, which caches it on the node
+                            dispatchScript(commands, CommandType.EVAL, script, keys, args, redisDataSource)
+                                    .whenComplete((evalValue, evalThrowable) -> {
+                                        if (evalThrowable != null) {
+                                            result.completeExceptionally(evalThrowable);
+                                        } else {
+                                            result.complete(evalValue);
+                                        }
+                                    });
+                            redisDataSource.commandDispatched(connection);
+                        }
+                    });
+                    return result;
+                }, Function.identity());
+    }
+
+    protected BString scriptLoad(String script, RedisDataSource<?, ?> redisDataSource) {
+        return new BString(redisDataSource.loadScript(script));
+    }
+
+    private <K> CompletionStage<BValue> dispatchScript(RedisClusterAsyncCommands<K, String> commands,
+            CommandType type, String scriptOrDigest, K[] keys, String[] args,
+            RedisDataSource<K, String> redisDataSource) {
+        RedisCodec<K, String> codec = redisDataSource.getCodec();
+        // The arguments are written as they are, bypassing the value codec, since the script reads them as given
+        CommandArgs<K, String> commandArgs =
+                new CommandArgs<>(codec).add(scriptOrDigest).add(keys.length).addKeys(keys);
+        for (String arg : args) {
+            commandArgs.add(arg);
+        }
+        return commands.dispatch(type, new ScriptReplyOutput<>(codec), commandArgs);
+    }
+
+    private boolean isNoScriptError(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                throwable.getCause() : throwable;
+        return cause instanceof RedisCommandExecutionException && cause.getMessage() != null &&
+                cause.getMessage().startsWith("NOSCRIPT");
+    }
+
+    /**
+     * Issues a command on a connection obtained from the datasource and converts the reply into a Ballerina value.
+     * In sync mode this waits for the reply. In async mode the reply is handed over to the callback of the current
+     * invocation and {@code null} is returned.
+     */
+    private <K, V, T, R extends BValue> R executeCommand(RedisDataSource<K, V> redisDataSource,
+            String illegalArgumentMessage, Function<RedisClusterAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, R> converter) {
+        return executeCommand(redisDataSource, redisDataSource.getConnection(), redisDataSource::releaseConnection,
+                illegalArgumentMessage, command, converter);
+    }
+
+    /**
+     * Issues a blocking command on a connection of the blocking command lane, so that the command neither holds up
+     * the commands sharing a connection nor takes up a pooled connection while it waits. Blocking commands always
+     * complete through the callback of the current invocation, see {@link #isBlockingCommand()}.
+     */
+    private <K, V, T, R extends BValue> R executeBlockingCommand(RedisDataSource<K, V> redisDataSource,
+            String illegalArgumentMessage, Function<RedisClusterAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, R> converter) {
+        return executeCommand(redisDataSource, redisDataSource.getBlockingConnection(),
+                redisDataSource::releaseBlockingConnection, illegalArgumentMessage, command, converter);
+    }
+
+    private <K, V, T, R extends BValue> R executeCommand(RedisDataSource<K, V> redisDataSource,
+            StatefulConnection<K, V> connection, Consumer<StatefulConnection<K, V>> release,
+            String illegalArgumentMessage, Function<RedisClusterAsyncCommands<K, V>, CompletionStage<T>> command,
+            Function<T, R> converter) {
+        CompletionStage<T> reply = null;
+        try {
+            reply = command.apply(redisDataSource.getAsyncCommands(connection, compressesValues()));
+        } catch (IllegalArgumentException e) {
+            redisDataSource.getCommandMetrics().recordError(getCommandName(null));
+            throw new BallerinaException(illegalArgumentMessage);
+        } finally {
+            if (reply == null) {
+                release.accept(connection);
+            }
+        }
+        redisDataSource.commandDispatched(connection);
+        String commandName = getCommandName(reply);
+        PendingResult pendingResult = PENDING_RESULT.get();
+        if (pendingResult == null) {
+            try {
+                return converter.apply(RedisDataSourceUtils.await(reply, connection.getTimeout()));
+            } catch (RuntimeException e) {
+                redisDataSource.getCommandMetrics().recordError(commandName);
+                throw e;
+            } finally {
+                release.accept(connection);
+            }
+        }
+        pendingResult.defer(reply.whenComplete((result, throwable) -> {
+            release.accept(connection);
+            if (throwable != null) {
+                redisDataSource.getCommandMetrics().recordError(commandName);
+            }
+        }).thenApply(converter));
+        return null;
+    }
+
+    /**
+     * Returns the name under which the failures of a command are counted. This is the type of the dispatched
+     * command, which is also the name under which its latencies are recorded. Replies which are not a single
+     * command, such as those of commands fanned out over the nodes of a cluster, and commands which could not be
+     * dispatched are counted under {@link #getCommandType()}.
+     */
+    private String getCommandName(CompletionStage<?> reply) {
+        if (reply instanceof RedisCommand) {
+            return ((RedisCommand<?, ?, ?>) reply).getType().name();
+        }
+        ProtocolKeyword commandType = getCommandType();
+        return commandType != null ? commandType.name() : getClass().getSimpleName().toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * The type of the command the action issues. By default this is the command type named after the action, such
+     * as {@code GET} for {@code Get}. Actions which are not named after the command they issue override this.
+     *
+     * @return the command type, or {@code null} if no command type is named after the action
+     */
+    protected ProtocolKeyword getCommandType() {
         try {
-            redisCommands = (RedisCommands<K, String>) getRedisCommands(redisDataSource);
-            String result = redisCommands.ping();
-            return new BString(result);
-        } finally {
-            releaseResources(redisCommands, redisDataSource);
+            return CommandType.valueOf(getClass().getSimpleName().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 
-    private boolean isClusterConnection(RedisDataSource redisDataSource) {
-        return redisDataSource.isClusterConnection();
+    /**
+     * Whether the values the action writes are stored values, which are compressed when compression is enabled. The
+     * members of lists, sets and sorted sets, and the bounds and pivots compared with them, are compared by the
+     * server, so the actions writing them send them as they are.
+     *
+     * @return {@code true} if the values written by the action may be compressed
+     */
+    protected boolean compressesValues() {
+        return !MEMBER_COMMANDS.contains(getCommandType());
     }
 
     private BValueArray createBStringArrayFromSet(Set<String> set) {
-        BValueArray bStringArray = new BValueArray(new String[set.size()]);
-        int i = 0;
-        for (String item : set) {
-            bStringArray.add(i, item);
-            i++;
-        }
-        return bStringArray;
+        return createBStringArray(set);
     }
 
     private BValueArray createBStringArrayFromList(List<String> list) {
-        BValueArray bStringArray = new BValueArray(new String[list.size()]);
+        return createBStringArray(list);
+    }
+
+    private BValueArray createBStringArray(Collection<String> values) {
+        // The array is taken over by the BValueArray as its storage, so the elements are written into it only once
+        String[] array = new String[values.size()];
         int i = 0;
-        for (String item : list) {
-            bStringArray.add(i, item);
-            i++;
+        for (String value : values) {
+            array[i++] = value;
         }
-        return bStringArray;
+        return new BValueArray(array);
     }
 
-    private <V> ScoredValue<V>[] createArrayFromScoredValueMap(Map<V, Double> valueScoreMap) {
-        ScoredValue<V>[] scoredValues = new ScoredValue[valueScoreMap.size()];
+    protected ScoredValue<String>[] createScoredValuesFromBMap(BMap<String, BFloat> valueScoreMap) {
+        ScoredValue<String>[] scoredValues = new ScoredValue[(int) valueScoreMap.size()];
         int i = 0;
-        for (Map.Entry<V, Double> entry : valueScoreMap.entrySet()) {
-            scoredValues[i] = ScoredValue.fromNullable(entry.getValue(), entry.getKey());
+        for (Map.Entry<String, BFloat> entry : valueScoreMap.getMap().entrySet()) {
+            scoredValues[i] = ScoredValue.fromNullable(entry.getValue().floatValue(), entry.getKey());
             i++;
         }
         return scoredValues;
@@ -1565,17 +1034,70 @@ public abstract class AbstractRedisAction extends BlockingNativeCallableUnit {
     private <K> BMap<K, BString> createBMapFromKeyValueList(List<KeyValue<K, String>> list) {
         BMap<K, BString> bMap = new BMap<>();
         for (KeyValue<K, String> item : list) {
-            String value;
-            try {
-                value = item.getValue();
-            } catch (NoSuchElementException e) {
-                value = null;
+            bMap.put(item.getKey(), new BString(item.getValueOrElse(null)));
+        }
+        return bMap;
+    }
+
+    private <V> BMap<V, BFloat> createBMapFromScoredValues(List<ScoredValue<V>> scoredValues) {
+        BMap<V, BFloat> bMap = new BMap<>();
+        for (ScoredValue<V> scoredValue : scoredValues) {
+            bMap.put(scoredValue.getValue(), new BFloat(scoredValue.getScore()));
+        }
+        return bMap;
+    }
+
+    private BMap<String, BValue> createScanResult(Context context, String recordName, ScanCursor cursor,
+            BValue values) {
+        return BLangConnectorSPIUtil.createBStruct(context, Constants.REDIS_PACKAGE_PATH, recordName,
+                cursor.getCursor(), cursor.isFinished(), values);
+    }
+
+    protected ScanArgs createScanArgs(BMap<String, BValue> bScanOptions) {
+        Struct scanOptions = BLangConnectorSPIUtil.toStruct(bScanOptions);
+        ScanArgs scanArgs = new ScanArgs();
+        String match = scanOptions.getStringField(Constants.ScanOptions.MATCH);
+        long count = scanOptions.getIntField(Constants.ScanOptions.COUNT);
+        if (!match.isEmpty()) {
+            scanArgs.match(match);
+        }
+        if (count > 0) {
+            scanArgs.limit(count);
+        }
+        return scanArgs;
+    }
+
+    protected int getScanParallelism(BMap<String, BValue> bScanOptions) {
+        long parallelism = BLangConnectorSPIUtil.toStruct(bScanOptions).getIntField(Constants.ScanOptions.PARALLELISM);
+        if (parallelism < 1) {
+            throw new BallerinaException("Scan parallelism must be positive: " + parallelism);
+        }
+        return (int) parallelism;
+    }
+
+    private BValueArray createBByteArray(byte[] bytes) {
+        return bytes == null ? null : new BValueArray(bytes);
+    }
+
+    private <K> BMap<K, BValueArray> createBMapFromBinaryValues(K[] keys, List<byte[]> values) {
+        BMap<K, BValueArray> bMap = new BMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            byte[] value = values.get(i);
+            if (value != null) {
+                bMap.put(keys[i], new BValueArray(value));
             }
-            bMap.put(item.getKey(), new BString(value));
         }
         return bMap;
     }
 
+    protected byte[] createByteArrayFromBByteArray(BValueArray bByteArray) {
+        byte[] byteArray = new byte[(int) bByteArray.size()];
+        for (int i = 0; i < byteArray.length; i++) {
+            byteArray[i] = bByteArray.getByte(i);
+        }
+        return byteArray;
+    }
+
     protected String[] createArrayFromBStringArray(BValueArray bStringArray) {
         String[] stringArray = new String[(int) bStringArray.size()];
         for (int i = 0; i < bStringArray.size(); i++) {
@@ -1585,8 +1107,9 @@ public abstract class AbstractRedisAction extends BlockingNativeCallableUnit {
     }
 
     protected Map<String, String> createMapFromBMap(BMap<String, BString> bMap) {
-        Map<String, String> map = new HashMap<>();
-        bMap.getMap().keySet().forEach(item -> map.put(item, bMap.get(item).stringValue()));
+        Map<String, BString> entries = bMap.getMap();
+        Map<String, String> map = new HashMap<>((int) (entries.size() / 0.75f) + 1);
+        entries.forEach((key, value) -> map.put(key, value.stringValue()));
         return map;
     }
 
@@ -1598,9 +1121,50 @@ public abstract class AbstractRedisAction extends BlockingNativeCallableUnit {
         }
     }
 
-    private <K, V> void releaseResources(Object redisCommands, RedisDataSource<K, V> redisDataSource) {
-        if (redisDataSource.isPoolingEnabled() && redisCommands != null) {
-            redisDataSource.releaseResources(redisCommands);
+    private BValueArray createStreamEntryArray(Context context, List<StreamMessage<String, String>> messages) {
+        BType entryType = context.getProgramFile().getPackageInfo(Constants.REDIS_PACKAGE_PATH)
+                .getStructInfo(Constants.STREAM_ENTRY_RECORD_NAME).getType();
+        BValueArray entries = new BValueArray(new BArrayType(entryType));
+        for (int i = 0; i < messages.size(); i++) {
+            entries.add(i, RedisDataSourceUtils.createStreamEntry(context.getProgramFile(), messages.get(i)));
+        }
+        return entries;
+    }
+
+    private <K> BMap<K, BString> createBMapFromKeyValue(KeyValue<K, String> keyValue) {
+        if (keyValue == null) {
+            return null;
+        }
+        BMap<K, BString> bMap = new BMap<>();
+        bMap.put(keyValue.getKey(), new BString(keyValue.getValue()));
+        return bMap;
+    }
+
+    /**
+     * Holds the reply of the command issued by an action invoked in async mode.
+     */
+    private class PendingResult {
+        private CompletionStage<? extends BValue> result;
+
+        void defer(CompletionStage<? extends BValue> result) {
+            this.result = result;
+        }
+
+        void complete(Context context, CallableUnitCallback callback) {
+            if (result == null) {
+                callback.notifySuccess();
+                return;
+            }
+            result.whenComplete((value, throwable) -> {
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                            throwable.getCause() : throwable;
+                    context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, cause));
+                } else {
+                    setNullableReturnValues(value, context);
+                }
+                callback.notifySuccess();
+            });
         }
     }
 }
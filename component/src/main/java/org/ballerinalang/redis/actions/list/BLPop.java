@@ -61,4 +61,9 @@ public class BLPop extends AbstractRedisAction {
             context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
         }
     }
+
+    @Override
+    protected boolean isBlockingCommand() {
+        return true;
+    }
 }
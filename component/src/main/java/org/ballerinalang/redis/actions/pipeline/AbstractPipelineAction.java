@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions.pipeline;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisPipeline;
+
+/**
+ * {@code AbstractPipelineAction} is the base class for the functions of a Redis pipeline.
+ *
+ * @since 0.8.3
+ */
+public abstract class AbstractPipelineAction extends BlockingNativeCallableUnit {
+
+    protected RedisPipeline<String, String> getPipeline(Context context) {
+        BMap<String, BValue> bPipeline = (BMap<String, BValue>) context.getRefArgument(0);
+        return (RedisPipeline<String, String>) bPipeline.getNativeData(Constants.PIPELINE);
+    }
+
+    protected String[] createArrayFromBStringArray(BValueArray bStringArray) {
+        String[] array = new String[(int) bStringArray.size()];
+        for (int i = 0; i < bStringArray.size(); i++) {
+            array[i] = bStringArray.getString(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions.pipeline;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BTypes;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BRefType;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisDataSourceUtils;
+
+import java.util.List;
+
+/**
+ * {@code {@link PipelineFlush}} Writes the commands queued on a pipeline to the server and returns their replies.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(orgName = "wso2",
+                   packageName = "redis:0.0.0",
+                   functionName = "flush",
+                   receiver = @Receiver(type = TypeKind.OBJECT,
+                                        structType = Constants.PIPELINE))
+public class PipelineFlush extends AbstractPipelineAction {
+
+    @Override
+    public void execute(Context context) {
+        try {
+            List<BValue> replies = getPipeline(context)
+                    .flush(e -> RedisDataSourceUtils.getRedisConnectorError(context, e));
+            BValueArray result = new BValueArray(new BArrayType(BTypes.typeAny));
+            for (int i = 0; i < replies.size(); i++) {
+                result.add(i, (BRefType) replies.get(i));
+            }
+            context.setReturnValues(result);
+        } catch (Throwable e) {
+            context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions.stats;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.model.types.BArrayType;
+import org.ballerinalang.model.types.BType;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisCommandMetrics;
+import org.ballerinalang.redis.RedisDataSource;
+
+import java.util.List;
+
+/**
+ * {@code {@link GetCommandMetrics}} Returns the latencies and error counts of the commands executed by the client.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(orgName = "wso2",
+                   packageName = "redis:0.0.0",
+                   functionName = "getCommandMetrics",
+                   receiver = @Receiver(type = TypeKind.OBJECT,
+                                        structType = Constants.CLIENT))
+public class GetCommandMetrics extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisDataSource redisDataSource = (RedisDataSource) bConnector.getNativeData(Constants.CLIENT);
+        RedisCommandMetrics commandMetrics = redisDataSource.getCommandMetrics();
+
+        BType latencyType = context.getProgramFile().getPackageInfo(Constants.REDIS_PACKAGE_PATH)
+                .getStructInfo(Constants.COMMAND_LATENCY_RECORD_NAME).getType();
+        List<RedisCommandMetrics.Latency> latencies = commandMetrics.getLatencies();
+        BValueArray bLatencies = new BValueArray(new BArrayType(latencyType));
+        for (int i = 0; i < latencies.size(); i++) {
+            RedisCommandMetrics.Latency latency = latencies.get(i);
+            double[] percentiles = latency.getPercentiles();
+            bLatencies.add(i, BLangConnectorSPIUtil.createBStruct(context, Constants.REDIS_PACKAGE_PATH,
+                    Constants.COMMAND_LATENCY_RECORD_NAME, latency.getCommand(), latency.getNode(),
+                    latency.getCount(), latency.getMin(), latency.getMax(), percentiles[0], percentiles[1],
+                    percentiles[2]));
+        }
+        BMap<String, BInteger> bErrors = new BMap<>();
+        commandMetrics.getErrors().forEach((command, count) -> bErrors.put(command, new BInteger(count)));
+
+        context.setReturnValues(BLangConnectorSPIUtil.createBStruct(context, Constants.REDIS_PACKAGE_PATH,
+                Constants.COMMAND_METRICS_RECORD_NAME, bLatencies, bErrors));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions.stats;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisSubscriber;
+
+/**
+ * {@code {@link GetListenerStats}} Returns the message dispatch statistics of a Pub/Sub listener.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(orgName = "wso2",
+                   packageName = "redis:0.0.0",
+                   functionName = "getStats",
+                   receiver = @Receiver(type = TypeKind.OBJECT,
+                                        structType = Constants.LISTENER))
+public class GetListenerStats extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bListener = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisSubscriber subscriber = (RedisSubscriber) bListener.getNativeData(Constants.LISTENER);
+        context.setReturnValues(BLangConnectorSPIUtil.createBStruct(context, Constants.REDIS_PACKAGE_PATH,
+                Constants.LISTENER_STATS_RECORD_NAME, subscriber.getReceived(), subscriber.getDispatched(),
+                subscriber.getFailed(), subscriber.getDropped(), subscriber.getPending(),
+                subscriber.getMaxPending()));
+    }
+}
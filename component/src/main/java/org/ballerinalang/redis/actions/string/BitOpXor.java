@@ -18,6 +18,8 @@
 
 package org.ballerinalang.redis.actions.string;
 
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
 import org.ballerinalang.bre.Context;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.model.values.BInteger;
@@ -57,4 +59,9 @@ public class BitOpXor extends AbstractRedisAction {
             context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
         }
     }
+
+    @Override
+    protected ProtocolKeyword getCommandType() {
+        return CommandType.BITOP;
+    }
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions.transaction;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisDataSource;
+import org.ballerinalang.redis.RedisDataSourceUtils;
+import org.ballerinalang.redis.RedisTransaction;
+
+/**
+ * Obtains the connection of a transaction created through a Redis client and watches the given keys.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(orgName = "wso2",
+                   packageName = "redis:0.0.0",
+                   functionName = "initTransaction",
+                   args = {
+                           @Argument(name = "redisClient", type = TypeKind.OBJECT, structType = Constants.CLIENT),
+                           @Argument(name = "redisTransaction", type = TypeKind.OBJECT,
+                                     structType = Constants.TRANSACTION),
+                           @Argument(name = "watchedKeys", type = TypeKind.ARRAY, elementType = TypeKind.STRING),
+                           @Argument(name = "timeout", type = TypeKind.INT)
+                   }
+)
+public class InitTransaction extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisDataSource<String, String> redisDataSource =
+                (RedisDataSource<String, String>) bConnector.getNativeData(Constants.CLIENT);
+        BMap<String, BValue> bTransaction = (BMap<String, BValue>) context.getRefArgument(1);
+        BValueArray bWatchedKeys = (BValueArray) context.getRefArgument(2);
+        long timeout = context.getIntArgument(0);
+        String[] watchedKeys = new String[(int) bWatchedKeys.size()];
+        for (int i = 0; i < watchedKeys.length; i++) {
+            watchedKeys[i] = bWatchedKeys.getString(i);
+        }
+        try {
+            bTransaction.addNativeData(Constants.TRANSACTION,
+                    new RedisTransaction<>(redisDataSource, watchedKeys, timeout));
+        } catch (Throwable e) {
+            context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
+        }
+    }
+}
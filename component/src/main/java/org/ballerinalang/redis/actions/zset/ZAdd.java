@@ -32,9 +32,6 @@ import org.ballerinalang.redis.RedisDataSourceUtils;
 import org.ballerinalang.redis.actions.AbstractRedisAction;
 import org.ballerinalang.util.exceptions.BallerinaException;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * {@code {@link ZAdd}} Maps with "ZADD" operation of Redis.
  *
@@ -57,10 +54,7 @@ public class ZAdd extends AbstractRedisAction {
         if (bMap == null) {
             throw new BallerinaException("Member Map " + MUST_NOT_BE_NULL);
         }
-        Map<String, Double> valueScoreMap = new HashMap<>();
-        bMap.getMap().keySet().forEach(value -> valueScoreMap.put(value, (bMap.get(value).floatValue())));
-
-        BInteger result = zAdd(key, redisDataSource, valueScoreMap);
+        BInteger result = zAdd(key, redisDataSource, createScoredValuesFromBMap(bMap));
         try {
             context.setReturnValues(result);
         } catch (Throwable e) {
@@ -31,6 +31,7 @@ import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.redis.CompressionCodec;
 import org.ballerinalang.redis.Constants;
 import org.ballerinalang.redis.RedisDataSource;
 import org.ballerinalang.util.exceptions.BallerinaException;
@@ -63,13 +64,25 @@ public class InitRedisClient extends BlockingNativeCallableUnit {
         String password = clientEndpointConfig.getStringField(Constants.EndpointConfig.PASSWORD);
         Struct options = clientEndpointConfig.getStructField(Constants.EndpointConfig.OPTIONS);
 
-        // TODO: Dynamic codecs
-        RedisCodec<String, String> codec = retrieveRedisCodec(Constants.Codec.STRING_CODEC.getCodecName());
+        String codecName = options.getStringField(Constants.EndpointConfig.CODEC);
+        RedisCodec<String, String> codec = retrieveRedisCodec(codecName);
+        Struct compressionConfig = options.getStructField(Constants.EndpointConfig.COMPRESSION_CONFIG);
+        if (compressionConfig.getBooleanField(Constants.CompressionConfig.ENABLED)) {
+            int threshold = (int) compressionConfig.getIntField(Constants.CompressionConfig.THRESHOLD);
+            int level = (int) compressionConfig.getIntField(Constants.CompressionConfig.LEVEL);
+            if (codec instanceof StringCodec) {
+                // Compressed values are told apart by a header which never occurs in UTF-8, so the values are
+                // encoded as UTF-8 rather than in the platform charset
+                codec = StringCodec.UTF8;
+            }
+            codec = new CompressionCodec<>(codec, threshold, level);
+        }
         boolean clusteringEnabled = options.getBooleanField(Constants.EndpointConfig.CLUSTERING_ENABLED);
         boolean poolingEnabled = options.getBooleanField(Constants.EndpointConfig.POOLING_ENABLED);
+        boolean asyncEnabled = options.getBooleanField(Constants.EndpointConfig.ASYNC_MODE_ENABLED);
 
         RedisDataSource<String, String> redisDataSource;
-        redisDataSource = new RedisDataSource<>(codec, clusteringEnabled, poolingEnabled);
+        redisDataSource = new RedisDataSource<>(codec, clusteringEnabled, poolingEnabled, asyncEnabled);
         redisDataSource.init(host, password, options);
 
         BMap<String, BValue> redisClient = (BMap<String, BValue>) context.getRefArgument(0);
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.endpoint;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisDataSource;
+import org.ballerinalang.redis.RedisStreamListener;
+
+/**
+ * Creates the consumer of a Redis stream listener, which reads through the data source of the given client.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(
+        orgName = "wso2",
+        packageName = "redis:0.0.0",
+        functionName = "initStreamListener",
+        args = {
+                @Argument(name = "streamListener", type = TypeKind.OBJECT, structType = Constants.STREAM_LISTENER),
+                @Argument(name = "redisClient", type = TypeKind.OBJECT, structType = Constants.CLIENT),
+                @Argument(name = "listenerConfig", type = TypeKind.RECORD,
+                          structType = "StreamListenerConfiguration")
+        }
+)
+public class InitStreamListener extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bListener = (BMap<String, BValue>) context.getRefArgument(0);
+        BMap<String, BValue> bConnector = (BMap<String, BValue>) context.getRefArgument(1);
+        RedisDataSource<String, String> redisDataSource =
+                (RedisDataSource<String, String>) bConnector.getNativeData(Constants.CLIENT);
+        Struct listenerConfig = BLangConnectorSPIUtil.toStruct((BMap<String, BValue>) context.getRefArgument(2));
+        bListener.addNativeData(Constants.STREAM_LISTENER, new RedisStreamListener(redisDataSource,
+                context.getProgramFile(),
+                (int) listenerConfig.getIntField(Constants.StreamListenerConfig.BATCH_SIZE),
+                listenerConfig.getIntField(Constants.StreamListenerConfig.BLOCK_TIME),
+                listenerConfig.getIntField(Constants.StreamListenerConfig.CLAIM_MIN_IDLE_TIME),
+                listenerConfig.getIntField(Constants.StreamListenerConfig.CLAIM_INTERVAL)));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.endpoint;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.connector.api.Annotation;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Resource;
+import org.ballerinalang.connector.api.Service;
+import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.connector.api.Value;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisDataSourceUtils;
+import org.ballerinalang.redis.RedisSubscriber;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.List;
+
+/**
+ * Attaches a service to a Redis Pub/Sub listener. The messages of the channels and patterns given in the
+ * {@code ServiceConfig} annotation of the service are dispatched to its {@code onMessage} resource.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(
+        orgName = "wso2",
+        packageName = "redis:0.0.0",
+        functionName = "registerListenerService",
+        args = {
+                @Argument(name = "redisListener", type = TypeKind.OBJECT, structType = Constants.LISTENER),
+                @Argument(name = "serviceType", type = TypeKind.SERVICE)
+        }
+)
+public class RegisterListenerService extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bListener = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisSubscriber subscriber = (RedisSubscriber) bListener.getNativeData(Constants.LISTENER);
+        BMap<String, BValue> serviceValue = (BMap<String, BValue>) context.getRefArgument(1);
+        try {
+            Service service = BLangConnectorSPIUtil.getService(context.getProgramFile(), serviceValue);
+            List<Annotation> annotations = service.getAnnotationList(Constants.REDIS_PACKAGE_PATH,
+                    Constants.ListenerConfig.SERVICE_CONFIG);
+            if (annotations == null || annotations.isEmpty()) {
+                throw new BallerinaException("Service " + service.getName() + " does not have a "
+                        + Constants.ListenerConfig.SERVICE_CONFIG + " annotation");
+            }
+            Struct serviceConfig = annotations.get(0).getValue();
+            subscriber.addResource(getOnMessageResource(service),
+                    getStrings(serviceConfig.getArrayField(Constants.ListenerConfig.CHANNELS)),
+                    getStrings(serviceConfig.getArrayField(Constants.ListenerConfig.PATTERNS)));
+        } catch (Throwable e) {
+            context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
+        }
+    }
+
+    private Resource getOnMessageResource(Service service) {
+        for (Resource resource : service.getResources()) {
+            if (Constants.ListenerConfig.ON_MESSAGE.equals(resource.getName())) {
+                return resource;
+            }
+        }
+        throw new BallerinaException("Service " + service.getName() + " does not have an "
+                + Constants.ListenerConfig.ON_MESSAGE + " resource");
+    }
+
+    private String[] getStrings(Value[] values) {
+        String[] strings = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            strings[i] = values[i].getStringValue();
+        }
+        return strings;
+    }
+}
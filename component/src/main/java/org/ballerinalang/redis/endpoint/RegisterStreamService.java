@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.endpoint;
+
+import org.ballerinalang.bre.Context;
+import org.ballerinalang.bre.bvm.BlockingNativeCallableUnit;
+import org.ballerinalang.connector.api.Annotation;
+import org.ballerinalang.connector.api.BLangConnectorSPIUtil;
+import org.ballerinalang.connector.api.Resource;
+import org.ballerinalang.connector.api.Service;
+import org.ballerinalang.connector.api.Struct;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.redis.Constants;
+import org.ballerinalang.redis.RedisDataSourceUtils;
+import org.ballerinalang.redis.RedisStreamListener;
+import org.ballerinalang.util.exceptions.BallerinaException;
+
+import java.util.List;
+
+/**
+ * Attaches a service to a Redis stream listener. The entries of the stream given in the {@code StreamServiceConfig}
+ * annotation of the service are consumed as a member of the given consumer group and dispatched to its
+ * {@code onEntry} resource.
+ *
+ * @since 0.8.3
+ */
+@BallerinaFunction(
+        orgName = "wso2",
+        packageName = "redis:0.0.0",
+        functionName = "registerStreamService",
+        args = {
+                @Argument(name = "streamListener", type = TypeKind.OBJECT, structType = Constants.STREAM_LISTENER),
+                @Argument(name = "serviceType", type = TypeKind.SERVICE)
+        }
+)
+public class RegisterStreamService extends BlockingNativeCallableUnit {
+
+    @Override
+    public void execute(Context context) {
+        BMap<String, BValue> bListener = (BMap<String, BValue>) context.getRefArgument(0);
+        RedisStreamListener streamListener = (RedisStreamListener) bListener.getNativeData(Constants.STREAM_LISTENER);
+        BMap<String, BValue> serviceValue = (BMap<String, BValue>) context.getRefArgument(1);
+        try {
+            Service service = BLangConnectorSPIUtil.getService(context.getProgramFile(), serviceValue);
+            List<Annotation> annotations = service.getAnnotationList(Constants.REDIS_PACKAGE_PATH,
+                    Constants.StreamListenerConfig.STREAM_SERVICE_CONFIG);
+            if (annotations == null || annotations.isEmpty()) {
+                throw new BallerinaException("Service " + service.getName() + " does not have a "
+                        + Constants.StreamListenerConfig.STREAM_SERVICE_CONFIG + " annotation");
+            }
+            Struct serviceConfig = annotations.get(0).getValue();
+            streamListener.addResource(getOnEntryResource(service),
+                    serviceConfig.getStringField(Constants.StreamListenerConfig.STREAM),
+                    serviceConfig.getStringField(Constants.StreamListenerConfig.GROUP),
+                    serviceConfig.getStringField(Constants.StreamListenerConfig.CONSUMER),
+                    serviceConfig.getStringField(Constants.StreamListenerConfig.START_ID));
+        } catch (Throwable e) {
+            context.setReturnValues(RedisDataSourceUtils.getRedisConnectorError(context, e));
+        }
+    }
+
+    private Resource getOnEntryResource(Service service) {
+        for (Resource resource : service.getResources()) {
+            if (Constants.StreamListenerConfig.ON_ENTRY.equals(resource.getName())) {
+                return resource;
+            }
+        }
+        throw new BallerinaException("Service " + service.getName() + " does not have an "
+                + Constants.StreamListenerConfig.ON_ENTRY + " resource");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import org.ballerinalang.util.exceptions.BallerinaException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ClusterScanTest {
+
+    @Test
+    public void testInitialCursorCoversMasters() {
+        Map<String, String> nodeCursors = ClusterScan.parseCursor(createPartitions(), "0");
+        Assert.assertEquals(new ArrayList<>(nodeCursors.keySet()), Arrays.asList("master1", "master2"));
+        Assert.assertEquals(new ArrayList<>(nodeCursors.values()), Arrays.asList("0", "0"));
+    }
+
+    @Test
+    public void testFormatCursor() {
+        Map<String, String> nodeCursors = new LinkedHashMap<>();
+        nodeCursors.put("master2", "12");
+        nodeCursors.put("master1", "0");
+        Assert.assertEquals(ClusterScan.formatCursor(nodeCursors), "master2:12,master1:0");
+    }
+
+    @Test
+    public void testParseFormattedCursor() {
+        Map<String, String> nodeCursors = new LinkedHashMap<>();
+        nodeCursors.put("master2", "12");
+        nodeCursors.put("master1", "3072");
+        Map<String, String> parsed = ClusterScan.parseCursor(createPartitions(), ClusterScan.formatCursor(nodeCursors));
+        Assert.assertEquals(parsed, nodeCursors);
+        // The order of the nodes decides which nodes are scanned next, so it has to survive the round trip
+        Assert.assertEquals(new ArrayList<>(parsed.keySet()), Arrays.asList("master2", "master1"));
+    }
+
+    @Test(expectedExceptions = BallerinaException.class, expectedExceptionsMessageRegExp = "Invalid cluster scan.*")
+    public void testParseMalformedCursor() {
+        ClusterScan.parseCursor(createPartitions(), "master1:12,master2");
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+          expectedExceptionsMessageRegExp = "Node removed of the cluster scan cursor is no longer part of the cluster")
+    public void testParseCursorOfRemovedNode() {
+        ClusterScan.parseCursor(createPartitions(), "master1:12,removed:7");
+    }
+
+    private Partitions createPartitions() {
+        Partitions partitions = new Partitions();
+        partitions.add(createNode("master1", RedisClusterNode.NodeFlag.MASTER));
+        partitions.add(createNode("replica1", RedisClusterNode.NodeFlag.SLAVE));
+        partitions.add(createNode("master2", RedisClusterNode.NodeFlag.MASTER));
+        partitions.updateCache();
+        return partitions;
+    }
+
+    private RedisClusterNode createNode(String nodeId, RedisClusterNode.NodeFlag flag) {
+        RedisClusterNode node = new RedisClusterNode();
+        node.setNodeId(nodeId);
+        node.setFlags(Collections.singleton(flag));
+        return node;
+    }
+}
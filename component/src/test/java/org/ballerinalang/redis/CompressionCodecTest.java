@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.codec.StringCodec;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class CompressionCodecTest {
+
+    private static final String LARGE_VALUE = new String(new char[64]).replace("\0", "CompressionValue");
+
+    @Test
+    public void testCompressLargeValue() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        ByteBuffer encoded = codec.encodeValue(LARGE_VALUE);
+        Assert.assertTrue(encoded.remaining() < LARGE_VALUE.length());
+        Assert.assertEquals(encoded.get(encoded.position()), (byte) 0xFF);
+        Assert.assertEquals(codec.decodeValue(encoded), LARGE_VALUE);
+        codec.close();
+    }
+
+    @Test
+    public void testSmallValueIsNotCompressed() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        ByteBuffer encoded = codec.encodeValue("SmallValue");
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(encoded.duplicate()).toString(), "SmallValue");
+        Assert.assertEquals(codec.decodeValue(encoded), "SmallValue");
+        codec.close();
+    }
+
+    @Test
+    public void testValueWithHeaderWhichCannotBeInflated() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        byte[] bytes = { (byte) 0xFF, 0x01, 'a', 'b', 'c' };
+        ByteBuffer decoded = ByteBuffer.wrap(bytes);
+        Assert.assertEquals(codec.decodeValue(decoded), StringCodec.UTF8.decodeValue(ByteBuffer.wrap(bytes)));
+        codec.close();
+    }
+
+    @Test
+    public void testValueWithExcessiveLengthIsNotInflated() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        ByteBuffer encoded = codec.encodeValue(LARGE_VALUE);
+        // Claim a length far beyond what the compressed bytes could inflate to
+        encoded.putInt(encoded.position() + 2, Integer.MAX_VALUE);
+        byte[] bytes = new byte[encoded.remaining()];
+        encoded.duplicate().get(bytes);
+        Assert.assertEquals(codec.decodeValue(encoded), StringCodec.UTF8.decodeValue(ByteBuffer.wrap(bytes)));
+        codec.close();
+    }
+
+    @Test
+    public void testUncompressedValues() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        ByteBuffer encoded = codec.uncompressedValues().encodeValue(LARGE_VALUE);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(encoded.duplicate()).toString(), LARGE_VALUE);
+        Assert.assertEquals(codec.uncompressedValues().decodeValue(codec.encodeValue(LARGE_VALUE)), LARGE_VALUE);
+        codec.close();
+    }
+
+    @Test
+    public void testCodecIsUsableAfterClose() {
+        CompressionCodec<String, String> codec = new CompressionCodec<>(StringCodec.UTF8, 64, 6);
+        Assert.assertEquals(codec.decodeValue(codec.encodeValue(LARGE_VALUE)), LARGE_VALUE);
+        codec.close();
+        Assert.assertEquals(codec.decodeValue(codec.encodeValue(LARGE_VALUE)), LARGE_VALUE);
+    }
+}
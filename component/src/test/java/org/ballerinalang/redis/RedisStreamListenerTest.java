@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.models.stream.PendingParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class RedisStreamListenerTest {
+
+    @Test
+    public void testIdleEntriesAreSelected() {
+        // The reply of XPENDING for a range lists the ID, consumer, idle time and number of deliveries of each entry
+        List<Object> pending = new ArrayList<>();
+        pending.add(Arrays.asList("1-1", "consumer1", 5000L, 1L));
+        pending.add(Arrays.asList("1-2", "consumer1", 999L, 3L));
+        pending.add(Arrays.asList("1-3", "consumer2", 1000L, 1L));
+
+        Assert.assertEquals(RedisStreamListener.getIdleEntries(PendingParser.parseRange(pending), 1000),
+                Arrays.asList("1-1", "1-3"));
+    }
+
+    @Test
+    public void testNextId() {
+        // The pending entries following a page start right after the last entry of the page
+        Assert.assertEquals(RedisStreamListener.getNextId("1526919030474-55"), "1526919030474-56");
+        Assert.assertEquals(RedisStreamListener.getNextId("1526919030474-18446744073709551615"), "1526919030475-0");
+    }
+
+    @Test
+    public void testNoPendingEntries() {
+        Assert.assertEquals(RedisStreamListener.getIdleEntries(Collections.emptyList(), 1000),
+                Collections.emptyList());
+    }
+}
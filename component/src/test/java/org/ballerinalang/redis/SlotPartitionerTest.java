@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis;
+
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.StringCodec;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+public class SlotPartitionerTest {
+
+    @Test
+    public void testRepliesAreReassembledInKeyOrder() {
+        String[] keys = { "{a}1", "{b}1", "{a}2", "{c}1", "{b}2" };
+        List<List<String>> slotKeys = new ArrayList<>();
+        List<CompletableFuture<List<String>>> slotReplies = new ArrayList<>();
+        CompletionStage<List<String>> result = SlotPartitioner.dispatchBySlot(StringCodec.UTF8, keys, commandKeys -> {
+            slotKeys.add(commandKeys);
+            CompletableFuture<List<String>> reply = new CompletableFuture<>();
+            slotReplies.add(reply);
+            return reply;
+        });
+
+        Assert.assertEquals(slotKeys.size(), 3);
+        for (List<String> commandKeys : slotKeys) {
+            Assert.assertEquals(commandKeys.stream().map(SlotHash::getSlot).distinct().count(), 1);
+        }
+        // The replies of the slots complete in the reverse order of their commands
+        for (int i = slotReplies.size() - 1; i >= 0; i--) {
+            Assert.assertFalse(result.toCompletableFuture().isDone());
+            slotReplies.get(i).complete(createReply(slotKeys.get(i)));
+        }
+        Assert.assertEquals(result.toCompletableFuture().join(), createReply(Arrays.asList(keys)));
+    }
+
+    @Test
+    public void testDuplicateKeys() {
+        String[] keys = { "{a}1", "{b}1", "{a}1" };
+        CompletionStage<List<String>> result = SlotPartitioner.dispatchBySlot(StringCodec.UTF8, keys,
+                commandKeys -> CompletableFuture.completedFuture(createReply(commandKeys)));
+        Assert.assertEquals(result.toCompletableFuture().join(), createReply(Arrays.asList(keys)));
+    }
+
+    @Test
+    public void testKeysOfSingleSlotAreIssuedAsOneCommand() {
+        String[] keys = { "{a}1", "{a}2", "{a}3" };
+        List<List<String>> slotKeys = new ArrayList<>();
+        CompletionStage<List<String>> result = SlotPartitioner.dispatchBySlot(StringCodec.UTF8, keys, commandKeys -> {
+            slotKeys.add(commandKeys);
+            return CompletableFuture.completedFuture(createReply(commandKeys));
+        });
+        Assert.assertEquals(slotKeys, Collections.singletonList(Arrays.asList(keys)));
+        Assert.assertEquals(result.toCompletableFuture().join(), createReply(Arrays.asList(keys)));
+    }
+
+    private List<String> createReply(List<String> keys) {
+        return keys.stream().map(key -> key + "-value").collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.StringCodec;
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.redis.util.CustomRedisServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import redis.embedded.RedisServer;
+
+import java.nio.file.Files;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests of the cluster connection mode, run against a single node cluster which serves all the slots but the last one.
+ */
+public class RedisClusterTest extends RedisCommandsBaseTest {
+    private static final int CLUSTER_PORT = 7000;
+    private static final int UNASSIGNED_SLOT = SlotHash.SLOT_COUNT - 1;
+    CompileResult compileResult;
+    private RedisServer clusterNode;
+    private RedisClient nodeClient;
+    private RedisCommands<String, String> nodeCommands;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        clusterNode = new CustomRedisServer(getRedisExecutable(), CLUSTER_PORT,
+                "--dir", Files.createTempDirectory("redis-cluster-").toString(), "--cluster-enabled", "yes",
+                "--cluster-config-file", "nodes.conf", "--cluster-announce-ip", "127.0.0.1",
+                "--cluster-require-full-coverage", "no");
+        clusterNode.start();
+        nodeClient = RedisClient.create(RedisURI.Builder.redis("localhost", CLUSTER_PORT).build());
+        nodeCommands = nodeClient.connect(StringCodec.UTF8).sync();
+        int[] slots = new int[UNASSIGNED_SLOT];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+        }
+        nodeCommands.clusterAddSlots(slots);
+        for (int i = 0; i < 50 && !nodeCommands.clusterInfo().contains("cluster_state:ok"); i++) {
+            Thread.sleep(100);
+        }
+        compileResult = BCompileUtil.compile("samples/redis-cluster-test.bal");
+    }
+
+    @Test
+    public void testTopologyChanges() throws Exception {
+        Future<BValue[]> result = invokeInBackground(compileResult, "testTopologyChanges");
+        // The client has loaded the topology once it waits for the signal
+        for (int i = 0; i < 50 && !nodeCommands.clientList().contains(" cmd=blpop"); i++) {
+            Thread.sleep(100);
+        }
+        nodeCommands.clusterAddSlots(UNASSIGNED_SLOT);
+        nodeCommands.lpush("{topology}signal", "SlotAssigned");
+
+        BValue[] values = result.get(30, TimeUnit.SECONDS);
+        Assert.assertEquals(values.length, 1);
+        Assert.assertTrue(((BInteger) values[0]).intValue() >= 1);
+    }
+
+    @Test
+    public void testClusterScriptLoad() {
+        String script = "return redis.call('GET', KEYS[1])";
+        BValue[] values = BRunUtil.invoke(compileResult, "testClusterScriptLoad", new BValue[] { new BString(script) });
+        Assert.assertEquals(values.length, 1);
+        // The digest agreed on by the masters is that of the script, which is now cached on the master
+        Assert.assertEquals(values[0].stringValue(), nodeCommands.digest(script));
+        Assert.assertTrue(nodeCommands.scriptExists(values[0].stringValue()).get(0));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (nodeClient != null) {
+            nodeClient.shutdown();
+        }
+        if (clusterNode != null) {
+            clusterNode.stop();
+        }
+    }
+}
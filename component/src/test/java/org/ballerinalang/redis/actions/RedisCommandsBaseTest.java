@@ -23,17 +23,28 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.StringCodec;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.redis.util.CustomRedisServer;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
 import redis.embedded.RedisServer;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Base test class of Redis Command test classes.
@@ -41,6 +52,9 @@ import java.util.Set;
 public class RedisCommandsBaseTest {
     private static final String REDIS_HOST = "localhost";
     private static final int REDIS_PORT = 6379;
+    private static final String REDIS_EXECUTABLE = "src/test/resources/redis-executable/redis-server-4.0.7";
+    private static final String REDIS_SOCKET =
+            new File(System.getProperty("java.io.tmpdir"), "ballerina-redis-test.sock").getAbsolutePath();
     protected static final String OK_RESPONSE = "OK";
     protected static final String PONG = "PONG";
     protected static RedisCommands<String, String> redisCommands;
@@ -53,7 +67,9 @@ public class RedisCommandsBaseTest {
     }
 
     private void setUpServer() throws IOException {
-        redisServer = new CustomRedisServer("src/test/resources/redis-executable/redis-server-4.0.7", REDIS_PORT);
+        // A newer server can be given through -Dredis.executable to run the tests of the commands it introduced
+        redisServer = new CustomRedisServer(getRedisExecutable(), REDIS_PORT, "--unixsocket", REDIS_SOCKET,
+                "--unixsocketperm", "700");
         redisServer.start();
     }
 
@@ -65,6 +81,18 @@ public class RedisCommandsBaseTest {
         redisCommands = statefulRedisConnection.sync();
     }
 
+    protected static String getRedisExecutable() {
+        return System.getProperty("redis.executable", REDIS_EXECUTABLE);
+    }
+
+    protected static int getRedisPort() {
+        return REDIS_PORT;
+    }
+
+    protected static String getRedisSocket() {
+        return REDIS_SOCKET;
+    }
+
     protected RedisCommands<String, String> connectToDB(int db) {
         StatefulRedisConnection<String, String> statefulRedisConnection;
         RedisURI redisURI = RedisURI.Builder.redis(REDIS_HOST, REDIS_PORT).withDatabase(db).build();
@@ -78,6 +106,62 @@ public class RedisCommandsBaseTest {
         redisServer.stop();
     }
 
+    /**
+     * Skips the tests of a class against a server older than the given version. With -Dredis.failUnsupported=true,
+     * as in CI where a server supporting all of the commands is given, the tests fail instead of being skipped.
+     */
+    protected void skipIfServerOlderThan(int majorVersion) {
+        Matcher matcher = Pattern.compile("redis_version:(\\d+)").matcher(redisCommands.info("server"));
+        if (matcher.find() && Integer.parseInt(matcher.group(1)) < majorVersion) {
+            String message = "The test requires Redis " + majorVersion + " or later";
+            if (Boolean.getBoolean("redis.failUnsupported")) {
+                throw new AssertionError(message);
+            }
+            throw new SkipException(message);
+        }
+    }
+
+    /**
+     * Invokes a function on a thread of its own, so that the state of the server can be inspected while the function
+     * waits on a blocking command.
+     */
+    protected Future<BValue[]> invokeInBackground(CompileResult compileResult, String functionName, BValue... args) {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(() -> BRunUtil.invoke(compileResult, functionName, args));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Waits until a connection with the given client name is blocked on {@code BLPOP}, and returns the lines of the
+     * {@code CLIENT LIST} of the server describing the connections with that name.
+     */
+    protected List<String> awaitBlockedClient(RedisCommands<String, String> commands, String clientName)
+            throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            List<String> clients = getClients(commands, clientName);
+            for (String client : clients) {
+                if (client.contains(" cmd=blpop")) {
+                    return clients;
+                }
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No connection named " + clientName + " was blocked on BLPOP");
+    }
+
+    protected List<String> getClients(RedisCommands<String, String> commands, String clientName) {
+        List<String> clients = new ArrayList<>();
+        for (String client : commands.clientList().split("\n")) {
+            if (client.contains(" name=" + clientName + " ")) {
+                clients.add(client);
+            }
+        }
+        return clients;
+    }
+
     protected Set<String> createSetFromArray(String[] array) {
         Set<String> set = new HashSet<>(array.length);
         Collections.addAll(set, array);
@@ -18,14 +18,26 @@
 
 package org.ballerinalang.redis.actions;
 
+import io.netty.channel.epoll.Epoll;
 import org.ballerinalang.launcher.util.BCompileUtil;
 import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
 import org.ballerinalang.model.values.BValue;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 public class RedisConnectionTest extends RedisCommandsBaseTest {
     CompileResult compileResult;
 
@@ -61,4 +73,171 @@ public class RedisConnectionTest extends RedisCommandsBaseTest {
         Assert.assertEquals(result.length, 1);
         Assert.assertEquals(result[0].stringValue().toUpperCase(), PONG);
     }
+
+    @Test
+    public void testAsyncMode() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testAsyncMode");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(result[0].stringValue(), "AsyncModeValue");
+    }
+
+    @Test
+    public void testAsyncModeInFlight() throws Exception {
+        Future<BValue[]> result = invokeInBackground(compileResult, "testAsyncModeInFlight");
+        awaitBlockedClient(redisCommands, "AsyncModeClient");
+        redisCommands.set("AsyncModeSignalKey", "AsyncModeSignalValue");
+        // Both complete well before the pop would time out
+        BValue[] values = result.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(values.length, 2);
+        Assert.assertEquals(values[0].stringValue(), "AsyncModeSignalValue");
+        Assert.assertEquals(((BMap) values[1]).get("AsyncModeListKey").stringValue(), "AsyncModeListValue");
+    }
+
+    @Test
+    public void testAsyncModeError() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testAsyncModeError");
+        Assert.assertEquals(result.length, 1);
+        // A command which cannot be issued is returned as an error rather than leaving the caller waiting
+        Assert.assertTrue(result[0].stringValue().contains("Timed out waiting for a connection from the pool"),
+                result[0].stringValue());
+    }
+
+    @Test
+    public void testPoolConfig() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPoolConfig");
+        Assert.assertEquals(result.length, 2);
+        // The third borrow times out once both connections are held, and a released connection is handed out again
+        Assert.assertTrue(result[0].stringValue().contains("Timed out waiting for a connection from the pool"),
+                result[0].stringValue());
+        BMap<String, BValue> stats = (BMap<String, BValue>) result[1];
+        Assert.assertEquals(((BInteger) stats.get("created")).intValue(), 2);
+        Assert.assertEquals(((BInteger) stats.get("borrowTimeouts")).intValue(), 1);
+        Assert.assertEquals(((BInteger) stats.get("active")).intValue(), 0);
+        Assert.assertEquals(((BInteger) stats.get("idle")).intValue(), 2);
+    }
+
+    @Test
+    public void testMultiplexedConnections() throws Exception {
+        Future<BValue[]> result = invokeInBackground(compileResult, "testMultiplexedConnections");
+        List<String> multiplexedClients = new ArrayList<>();
+        for (String client : awaitBlockedClient(redisCommands, "MultiplexedClient")) {
+            if (!client.contains(" cmd=blpop")) {
+                multiplexedClients.add(client);
+            }
+        }
+        // The commands are spread over both multiplexed connections in turn, apart from the blocking one
+        Assert.assertEquals(multiplexedClients.size(), 2, multiplexedClients.toString());
+        Assert.assertTrue(multiplexedClients.stream().anyMatch(client -> client.contains(" cmd=set")),
+                multiplexedClients.toString());
+        Assert.assertTrue(multiplexedClients.stream().anyMatch(client -> client.contains(" cmd=get")),
+                multiplexedClients.toString());
+        redisCommands.lpush("MultiplexedSignalKey", "MultiplexedSignalValue");
+        BValue[] values = result.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(values.length, 2);
+        Assert.assertEquals(values[0].stringValue(), "MultiplexedValue");
+    }
+
+    @Test
+    public void testAutoBatching() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testAutoBatching");
+        Assert.assertEquals(result.length, 1);
+        BMap<String, BValue> stats = (BMap<String, BValue>) result[0];
+        long batches = ((BInteger) stats.get("batches")).intValue();
+        long commands = ((BInteger) stats.get("commands")).intValue();
+        long maxBatchSize = ((BInteger) stats.get("maxBatchSize")).intValue();
+        // Every command is flushed exactly once, and the concurrent ones share their flushes
+        Assert.assertEquals(commands, 11);
+        Assert.assertTrue(batches < commands, "batches: " + batches);
+        Assert.assertTrue(maxBatchSize > 1 && maxBatchSize <= 8, "maxBatchSize: " + maxBatchSize);
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testCompression");
+        Assert.assertEquals(result.length, 4);
+        String value = result[0].stringValue();
+        Assert.assertEquals(value.length(), 256 * "CompressionValue".length());
+        Assert.assertTrue(value.startsWith("CompressionValueCompressionValue"));
+        Assert.assertTrue(redisCommands.strlen("CompressionKey") < value.length());
+        Assert.assertEquals(result[1].stringValue(), "CompressionValue");
+        Assert.assertEquals(redisCommands.get("CompressionSmallKey"), "CompressionValue");
+        Assert.assertTrue(((BBoolean) result[2]).booleanValue());
+        Assert.assertTrue(redisCommands.sismember("CompressionSetKey", value));
+        Assert.assertEquals(((BInteger) result[3]).intValue(), 2);
+        Assert.assertEquals(redisCommands.lindex("CompressionListKey", 1), value);
+    }
+
+    @Test
+    public void testReadFrom() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testReadFrom");
+        Assert.assertEquals(result.length, 3);
+        Assert.assertEquals(result[0].stringValue(), "ReadFromValue");
+        Assert.assertTrue(result[1] instanceof BError, String.valueOf(result[1]));
+        Assert.assertEquals(result[2].stringValue(), OK_RESPONSE);
+        Assert.assertEquals(redisCommands.get("ReadFromKey"), "ReadFromNewValue");
+    }
+
+    @Test
+    public void testSharedResources() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testSharedResources");
+        Assert.assertEquals(result.length, 2);
+        // The second client keeps working after the first one stops, and sees the metrics of both
+        Assert.assertEquals(result[0].stringValue().toUpperCase(), PONG);
+        Assert.assertEquals(((BInteger) result[1]).intValue(), 4);
+    }
+
+    @Test
+    public void testCommandMetrics() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testCommandMetrics");
+        Assert.assertEquals(result.length, 3);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 2);
+        // The errors are keyed by the command types the latencies are reported under, not by the action names
+        BMap<String, BValue> errors = (BMap<String, BValue>) result[1];
+        Assert.assertEquals(((BInteger) errors.get("STRLEN")).intValue(), 1);
+        Assert.assertEquals(((BInteger) errors.get("GET")).intValue(), 1);
+        Assert.assertFalse(errors.hasKey("STRLN"));
+        Assert.assertFalse(errors.hasKey("GETBYTES"));
+        String prometheusMetrics = result[2].stringValue();
+        Assert.assertTrue(prometheusMetrics.contains("# TYPE redis_command_latency_microseconds summary"));
+        Assert.assertTrue(prometheusMetrics.contains("redis_command_latency_microseconds{command=\"PING\""));
+        Assert.assertTrue(prometheusMetrics.contains("quantile=\"0.99\""));
+        Assert.assertTrue(prometheusMetrics.contains("redis_command_latency_microseconds_sum{command=\"PING\""));
+        Assert.assertTrue(prometheusMetrics.contains("redis_command_latency_microseconds_count{command=\"PING\""));
+        Assert.assertTrue(prometheusMetrics.contains("redis_command_errors_total{command=\"STRLEN\"} 1"));
+    }
+
+    @Test
+    public void testPoolStats() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPoolStats");
+        Assert.assertEquals(result.length, 3);
+        BMap<String, BValue> borrowedStats = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(((BInteger) borrowedStats.get("active")).intValue(), 1);
+        Assert.assertEquals(((BInteger) borrowedStats.get("idle")).intValue(), 0);
+        BMap<String, BValue> waitingStats = (BMap<String, BValue>) result[1];
+        Assert.assertEquals(((BInteger) waitingStats.get("waiters")).intValue(), 1);
+        // The ping waited for the connection longer than the warning threshold, but not long enough to time out
+        BMap<String, BValue> releasedStats = (BMap<String, BValue>) result[2];
+        Assert.assertEquals(((BInteger) releasedStats.get("active")).intValue(), 0);
+        Assert.assertEquals(((BInteger) releasedStats.get("idle")).intValue(), 1);
+        Assert.assertEquals(((BInteger) releasedStats.get("waiters")).intValue(), 0);
+        Assert.assertEquals(((BInteger) releasedStats.get("created")).intValue(), 1);
+        Assert.assertEquals(((BInteger) releasedStats.get("slowBorrows")).intValue(), 1);
+        Assert.assertEquals(((BInteger) releasedStats.get("borrowTimeouts")).intValue(), 0);
+        Assert.assertTrue(((BInteger) releasedStats.get("maxBorrowWait")).intValue() >= 100);
+    }
+
+    @Test
+    public void testUnixSocket() throws Exception {
+        if (!Epoll.isAvailable()) {
+            throw new SkipException("Unix domain sockets require the native epoll transport");
+        }
+        Future<BValue[]> result = invokeInBackground(compileResult, "testUnixSocket", new BString(getRedisSocket()));
+        for (String client : awaitBlockedClient(redisCommands, "UnixSocketClient")) {
+            Assert.assertTrue(client.contains(" addr=" + getRedisSocket()), client);
+        }
+        redisCommands.lpush("UnixSocketKey", "UnixSocketValue");
+        BValue[] values = result.get(10, TimeUnit.SECONDS);
+        Assert.assertEquals(values.length, 1);
+        Assert.assertEquals(((BMap) values[0]).get("UnixSocketKey").stringValue(), "UnixSocketValue");
+    }
 }
@@ -237,4 +237,39 @@ public class RedisHashCommandsTest extends RedisCommandsBaseTest {
         }
         Assert.assertTrue(allValuesRetrieved);
     }
+
+    @Test
+    public void testHSetGetBytesCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testHSetGetBytes");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BValueArray) result[0]).getBytes(), new byte[] { 0, (byte) 255, (byte) 195, 40 });
+    }
+
+    @Test
+    public void testHScanCommand() throws Exception {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            map.put("testHScanField" + i, "testHScanValue" + i);
+        }
+        redisCommands.hmset("testHScanKey", map);
+        BValue[] result = BRunUtil.invoke(compileResult, "testHScan");
+        Assert.assertEquals(result.length, 1);
+        BMap<String, BValue> entries = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(entries.size(), 5);
+        Assert.assertEquals(entries.get("testHScanField3").stringValue(), "testHScanValue3");
+    }
+
+    @Test
+    public void testHScanIterator() throws Exception {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 1; i <= 5; i++) {
+            map.put("testHScanIteratorField" + i, "testHScanIteratorValue" + i);
+        }
+        redisCommands.hmset("testHScanIteratorKey", map);
+        BValue[] result = BRunUtil.invoke(compileResult, "testHScanIterator");
+        Assert.assertEquals(result.length, 1);
+        BMap<String, BValue> entries = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(entries.size(), 5);
+        Assert.assertEquals(entries.get("testHScanIteratorField4").stringValue(), "testHScanIteratorValue4");
+    }
 }
@@ -32,7 +32,12 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class RedisKeyCommandTest extends RedisCommandsBaseTest {
     CompileResult compileResult;
@@ -49,13 +54,14 @@ public class RedisKeyCommandTest extends RedisCommandsBaseTest {
         String[] keyArray = {
                 "testDelKey1", "testDelKey2", "testDelKey3", "testExistsKey", "testExpireKey", "testKeysKey1",
                 "testKeysKey2", "testKeysKey3", "testMoveKey", "testPersistKey", "testPExpireKey", "testPTtlKey",
-                "testRenameKey", "testRenameNxKey", "testRenameNxKey1", "testRenameNxKeyExisting", "testTypeKey"
+                "testRenameKey", "testRenameNxKey", "testRenameNxKey1", "testRenameNxKeyExisting", "testTypeKey",
+                "testDumpKey"
         };
         String[] valueArray = {
                 "testDelValue1", "testDelValue2", "testDelValue3", "testExistsValue", "testExpireValue",
                 "testKeysValue1", "testKeysValue2", "testKeysValue3", "testMoveValue4", "testPersistValue",
                 "testPExpireValue", "testPTtlValue", "testRenameValue", "testRenameNxValue", "testRenameNxValue1",
-                "testRenameNxValueExisting", "testTypeValue"
+                "testRenameNxValueExisting", "testTypeValue", "testDumpValue"
         };
 
         for (int i = 0; i < keyArray.length; i++) {
@@ -229,4 +235,32 @@ public class RedisKeyCommandTest extends RedisCommandsBaseTest {
         redisCommandsDb1.quit();
     }
 
+
+    @Test
+    public void testDumpCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testDump");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BValueArray) result[0]).getBytes(), redisCommands.dump("testDumpKey"));
+    }
+
+    @Test
+    public void testScanCommand() throws Exception {
+        redisCommands.mset(createKeyValueMap("testScanKey1", "testScanKey2", "testScanKey3"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testScan");
+        Assert.assertEquals(result.length, 1);
+        BValueArray keys = (BValueArray) result[0];
+        Set<String> keySet = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            keySet.add(keys.getString(i));
+        }
+        Assert.assertEquals(keySet, new HashSet<>(Arrays.asList("testScanKey1", "testScanKey2", "testScanKey3")));
+    }
+
+    private Map<String, String> createKeyValueMap(String... keys) {
+        Map<String, String> map = new HashMap<>();
+        for (String key : keys) {
+            map.put(key, key.replace("Key", "Value"));
+        }
+        return map;
+    }
 }
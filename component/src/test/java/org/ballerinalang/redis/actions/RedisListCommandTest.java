@@ -29,6 +29,8 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class RedisListCommandTest extends RedisCommandsBaseTest {
     CompileResult compileResult;
@@ -43,7 +45,8 @@ public class RedisListCommandTest extends RedisCommandsBaseTest {
         String[] keyArray = {
                 "testBLPopKey", "testBRPopKey", "testLIndexKey", "testLInsertKey", "testLLenKey", "testLPopKey",
                 "testLPushKey", "testLPushXKey", "testLRangeKey", "testLRemKey", "testLSetKey", "testLTrimKey",
-                "testRPopKey", "testRPopLPushKey1", "testRPopLPushKey2", "testRPushKey", "testRPushXKey"
+                "testRPopKey", "testRPopLPushKey1", "testRPopLPushKey2", "testRPushKey", "testRPushXKey",
+                "testBRPopLPushKey1"
         };
         String[][] valueArray = {
                 { "testBLPopValue1", "testBLPopValue2" }, { "testBRPopValue1", "testBRPopValue2" },
@@ -54,7 +57,7 @@ public class RedisListCommandTest extends RedisCommandsBaseTest {
                 { "testLRemValue1", "toBeRemovedValue", "toBeRemovedValue", "testLRemValue4" },
                 { "testLSetValue1", "testLSetValue2", "testLSetValue3" }, { "One", "Two", "Three" },
                 { "testRPopValue1", "testRPopValue2" }, { "One", "Two", "Three" }, { "One", "Two" },
-                { "testRPushValue1" }, {"testRPushXValue1"}
+                { "testRPushValue1" }, {"testRPushXValue1"}, { "One", "Two" }
         };
 
         for (int i = 0; i < keyArray.length; i++) {
@@ -89,6 +92,19 @@ public class RedisListCommandTest extends RedisCommandsBaseTest {
         assertNil(result);
     }
 
+    @Test
+    public void testBRPopLPushCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testBRPopLPush");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(result[0].stringValue(), "One");
+    }
+
+    @Test
+    public void testBRPopLPushCommandNilOutput() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testBRPopLPushNilOutput");
+        assertNil(result);
+    }
+
     @Test
     public void testLIndexCommand() throws Exception {
         BValue[] result = BRunUtil.invoke(compileResult, "testLIndex");
@@ -140,6 +156,21 @@ public class RedisListCommandTest extends RedisCommandsBaseTest {
         Assert.assertEquals(((BValueArray) result[0]).size(), 3);
     }
 
+    @Test
+    public void testLRangeLargeReply() throws Exception {
+        String[] values = new String[1000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = "value" + i;
+        }
+        redisCommands.rpush("testLRangeLargeKey", values);
+        BValue[] result = BRunUtil.invoke(compileResult, "testLRangeLargeReply");
+        Assert.assertEquals(result.length, 1);
+        BValueArray reply = (BValueArray) result[0];
+        Assert.assertEquals(reply.size(), values.length);
+        Assert.assertEquals(reply.getString(0), "value0");
+        Assert.assertEquals(reply.getString(values.length - 1), "value999");
+    }
+
     @Test
     public void testLRemCommand() throws Exception {
         BValue[] result = BRunUtil.invoke(compileResult, "testLRem");
@@ -197,4 +228,18 @@ public class RedisListCommandTest extends RedisCommandsBaseTest {
         BValue[] result = BRunUtil.invoke(compileResult, "testRPushX");
         Assert.assertEquals(Integer.parseInt(result[0].stringValue()), 3);
     }
+
+    @Test
+    public void testBlockingCommandIsolation() throws Exception {
+        Future<BValue[]> result = invokeInBackground(compileResult, "testBlockingCommandIsolation");
+        List<String> clients = awaitBlockedClient(redisCommands, "BlockingLaneClient");
+        // The BLPOP waits on a connection of the blocking lane, not on the connection shared by the other commands
+        Assert.assertTrue(clients.size() >= 2, String.join("\n", clients));
+        redisCommands.set("testBlockingLaneSignal", "Signal");
+
+        // A GET stalled behind the BLPOP would only complete once the BLPOP times out after 10 seconds
+        BValue[] values = result.get(8, TimeUnit.SECONDS);
+        Assert.assertEquals(values.length, 1);
+        Assert.assertEquals(((BMap) values[0]).get("testBlockingLaneKey").stringValue(), "testBlockingLaneValue");
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BError;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class RedisPipelineTest extends RedisCommandsBaseTest {
+    CompileResult compileResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        compileResult = BCompileUtil.compile("samples/redis-pipeline-test.bal");
+    }
+
+    @Test
+    public void testPipelineFlush() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPipelineFlush");
+        Assert.assertEquals(result.length, 1);
+        BValueArray replies = (BValueArray) result[0];
+        Assert.assertEquals(replies.size(), 8);
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), OK_RESPONSE);
+        Assert.assertEquals(replies.getRefValue(3).stringValue(), "PipelineValue");
+        Assert.assertEquals(replies.getRefValue(4).stringValue(), "1");
+        Assert.assertEquals(replies.getRefValue(5).stringValue(), "true");
+        Assert.assertEquals(replies.getRefValue(6).stringValue(), "PipelineHashValue");
+        Assert.assertNull(replies.getRefValue(7));
+    }
+
+    @Test
+    public void testPipelineDeferredWrites() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPipelineDeferredWrites");
+        Assert.assertEquals(result.length, 2);
+        Assert.assertNull(result[0]);
+        Assert.assertEquals(result[1].stringValue(), "PipelineDeferredValue");
+    }
+
+    @Test
+    public void testPipelineFailedCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPipelineFailedCommand");
+        Assert.assertEquals(result.length, 1);
+        BValueArray replies = (BValueArray) result[0];
+        Assert.assertEquals(replies.size(), 3);
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), OK_RESPONSE);
+        Assert.assertTrue(replies.getRefValue(1) instanceof BError, String.valueOf(replies.getRefValue(1)));
+        Assert.assertEquals(replies.getRefValue(2).stringValue(), OK_RESPONSE);
+        Assert.assertEquals(redisCommands.get("PipelineFailureOtherKey"), "PipelineFailureOtherValue");
+    }
+
+    @Test
+    public void testPipelineClosedWithClient() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPipelineClosedWithClient");
+        Assert.assertEquals(((BValueArray) result[0]).getRefValue(0).stringValue(), OK_RESPONSE);
+        List<String> clients = getClients(redisCommands, "PipelineClient");
+        for (int i = 0; i < 50 && !clients.isEmpty(); i++) {
+            Thread.sleep(100);
+            clients = getClients(redisCommands, "PipelineClient");
+        }
+        Assert.assertTrue(clients.isEmpty(), clients.toString());
+    }
+
+    @Test
+    public void testEmptyPipelineFlush() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testEmptyPipelineFlush");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BValueArray) result[0]).size(), 0);
+    }
+}
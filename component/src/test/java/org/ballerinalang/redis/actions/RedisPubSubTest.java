@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.BServiceUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class RedisPubSubTest extends RedisCommandsBaseTest {
+    CompileResult compileResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        compileResult = BServiceUtil.setupProgramFile(this, "samples/redis-pubsub-test.bal");
+    }
+
+    @Test
+    public void testPublishToListener() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testPublish");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 2);
+
+        BValueArray messages = (BValueArray) BRunUtil.invoke(compileResult, "getReceivedMessages")[0];
+        for (int i = 0; i < 50 && messages.size() < 2; i++) {
+            Thread.sleep(100);
+            messages = (BValueArray) BRunUtil.invoke(compileResult, "getReceivedMessages")[0];
+        }
+        Assert.assertEquals(messages.size(), 2);
+        Assert.assertEquals(messages.getString(0), "PubSubChannel||ChannelMessage");
+        Assert.assertEquals(messages.getString(1), "PubSubPattern.news|PubSubPattern.*|PatternMessage");
+
+        BMap<String, BValue> stats = (BMap<String, BValue>) BRunUtil.invoke(compileResult, "getListenerStats")[0];
+        Assert.assertEquals(((BInteger) stats.get("received")).intValue(), 2);
+        Assert.assertEquals(((BInteger) stats.get("dropped")).intValue(), 0);
+    }
+}
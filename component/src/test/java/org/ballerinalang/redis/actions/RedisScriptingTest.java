@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class RedisScriptingTest extends RedisCommandsBaseTest {
+    CompileResult compileResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        compileResult = BCompileUtil.compile("samples/redis-scripting-test.bal");
+    }
+
+    @Test
+    public void testEval() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testEval");
+        Assert.assertEquals(result.length, 1);
+        BValueArray reply = (BValueArray) result[0];
+        Assert.assertEquals(reply.size(), 2);
+        Assert.assertEquals(((BInteger) reply.getRefValue(0)).intValue(), 60);
+        Assert.assertEquals(((BInteger) reply.getRefValue(1)).intValue(), 50);
+        Assert.assertEquals(redisCommands.get("ScriptingSource"), "60");
+    }
+
+    @Test
+    public void testEvalStatusAndNil() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testEvalStatusAndNil");
+        Assert.assertEquals(result.length, 1);
+        BValueArray replies = (BValueArray) result[0];
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), OK_RESPONSE);
+        Assert.assertNull(replies.getRefValue(1));
+        Assert.assertEquals(redisCommands.get("ScriptingKey"), "ScriptingValue");
+    }
+
+    @Test
+    public void testEvalShaAfterScriptFlush() throws Exception {
+        BValue[] sha1 = BRunUtil.invoke(compileResult, "testScriptLoad");
+        Assert.assertEquals(sha1.length, 1);
+        Assert.assertEquals(sha1[0].stringValue(), "702b19e4aa19aaa9858b9343630276d13af5822e");
+
+        BValue[] result = BRunUtil.invoke(compileResult, "testEvalSha", sha1);
+        Assert.assertEquals(((BString) result[0]).stringValue(), "BallerinaRedis");
+
+        // A registered script evicted from the server cache is sent along through EVAL
+        redisCommands.scriptFlush();
+        result = BRunUtil.invoke(compileResult, "testEvalSha", sha1);
+        Assert.assertEquals(((BString) result[0]).stringValue(), "BallerinaRedis");
+
+        redisCommands.scriptFlush();
+        result = BRunUtil.invoke(compileResult, "testEvalRegisteredScript");
+        Assert.assertEquals(((BString) result[0]).stringValue(), "RegisteredScript");
+    }
+
+    @Test
+    public void testScriptsOption() throws Exception {
+        redisCommands.scriptFlush();
+        BValue[] result = BRunUtil.invoke(compileResult, "testScriptsOption");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 2);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.redis.util.CustomRedisSentinel;
+import org.ballerinalang.util.exceptions.BLangRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import redis.embedded.RedisServer;
+
+public class RedisSentinelTest extends RedisCommandsBaseTest {
+    private static final int SENTINEL_PORT = 26379;
+    private static final String MASTER_NAME = "testMaster";
+    CompileResult compileResult;
+    private RedisServer sentinel;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        sentinel = new CustomRedisSentinel(getRedisExecutable(), SENTINEL_PORT, MASTER_NAME, getRedisPort());
+        sentinel.start();
+        compileResult = BCompileUtil.compile("samples/redis-sentinel-test.bal");
+    }
+
+    @Test
+    public void testSentinelConnect() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testSentinelConnect");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(result[0].stringValue(), "SentinelValue");
+        // The value was written to the master announced by the sentinel
+        Assert.assertEquals(redisCommands.get("SentinelKey"), "SentinelValue");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class)
+    public void testUnknownSentinelMaster() throws Exception {
+        // A master which the sentinel does not monitor cannot be resolved, even though the sentinel is reachable
+        BRunUtil.invoke(compileResult, "testUnknownSentinelMaster");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (sentinel != null) {
+            sentinel.stop();
+        }
+    }
+}
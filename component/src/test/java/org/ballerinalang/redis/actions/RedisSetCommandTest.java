@@ -29,6 +29,8 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
 
 public class RedisSetCommandTest extends RedisCommandsBaseTest {
@@ -204,4 +206,18 @@ public class RedisSetCommandTest extends RedisCommandsBaseTest {
         Assert.assertTrue(redisCommands.sismember("testSUnionStoreDestKey", "testUnionValue3"));
         Assert.assertTrue(redisCommands.sismember("testSUnionStoreDestKey", "testUnionValue4"));
     }
+
+    @Test
+    public void testSScanCommand() throws Exception {
+        redisCommands.sadd("testSScanKey", "testSScanValue1", "testSScanValue2", "testSScanValue3", "other");
+        BValue[] result = BRunUtil.invoke(compileResult, "testSScan");
+        Assert.assertEquals(result.length, 1);
+        BValueArray members = (BValueArray) result[0];
+        Set<String> memberSet = new HashSet<>();
+        for (int i = 0; i < members.size(); i++) {
+            memberSet.add(members.getString(i));
+        }
+        Assert.assertEquals(memberSet,
+                new HashSet<>(Arrays.asList("testSScanValue1", "testSScanValue2", "testSScanValue3")));
+    }
 }
@@ -24,6 +24,7 @@ import org.ballerinalang.launcher.util.BRunUtil;
 import org.ballerinalang.launcher.util.CompileResult;
 import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.model.values.BValueArray;
 import org.testng.Assert;
@@ -391,4 +392,26 @@ public class RedisSortedSetCommandTest extends RedisCommandsBaseTest {
         }
         Assert.assertTrue(allElementsPresentInDest);
     }
+
+    @Test
+    public void testZScanCommand() throws Exception {
+        redisCommands.zadd("testZScanKey", ScoredValue.fromNullable(1, "a1"), ScoredValue.fromNullable(2.5, "a2"),
+                ScoredValue.fromNullable(3, "b1"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testZScan");
+        Assert.assertEquals(result.length, 1);
+        BMap<String, BValue> entries = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(((BFloat) entries.get("a2")).floatValue(), 2.5);
+    }
+
+    @Test
+    public void testZScanIterator() throws Exception {
+        redisCommands.zadd("testZScanIteratorKey", ScoredValue.fromNullable(1, "a1"),
+                ScoredValue.fromNullable(2.5, "a2"), ScoredValue.fromNullable(3, "b1"));
+        BValue[] result = BRunUtil.invoke(compileResult, "testZScanIterator");
+        Assert.assertEquals(result.length, 1);
+        BMap<String, BValue> entries = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(entries.size(), 2);
+        Assert.assertEquals(((BFloat) entries.get("a1")).floatValue(), 1.0);
+    }
 }
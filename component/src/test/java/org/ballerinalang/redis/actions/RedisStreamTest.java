@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import io.lettuce.core.Consumer;
+import io.lettuce.core.Range;
+import io.lettuce.core.StreamMessage;
+import io.lettuce.core.XAddArgs;
+import io.lettuce.core.XClaimArgs;
+import io.lettuce.core.XReadArgs;
+import io.lettuce.core.models.stream.PendingMessages;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.BServiceUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BString;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+public class RedisStreamTest extends RedisCommandsBaseTest {
+    CompileResult compileResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        // Streams were introduced in Redis 5, so these tests run only against a server given through
+        // -Dredis.executable, as CI does. Against the bundled Redis 4 server they are reported as skipped rather than
+        // passed, see RedisCommandsBaseTest
+        skipIfServerOlderThan(5);
+        setUpClaimableEntries();
+        compileResult = BServiceUtil.setupProgramFile(this, "samples/redis-stream-test.bal");
+    }
+
+    /**
+     * Leaves three entries pending for a consumer which went away, before the listeners start. Only the last one has
+     * been idle long enough to be claimed, so the listener has to page past the two before it.
+     */
+    private void setUpClaimableEntries() {
+        for (int i = 1; i <= 3; i++) {
+            redisCommands.xadd("ClaimStream", XAddArgs.Builder.id("1-" + i), "value", "claim" + i);
+        }
+        redisCommands.xgroupCreate(XReadArgs.StreamOffset.from("ClaimStream", "0"), "ClaimGroup");
+        Consumer<String> goneConsumer = Consumer.from("ClaimGroup", "GoneConsumer");
+        redisCommands.xreadgroup(goneConsumer, XReadArgs.Builder.count(3),
+                XReadArgs.StreamOffset.lastConsumed("ClaimStream"));
+        redisCommands.xclaim("ClaimStream", goneConsumer, XClaimArgs.Builder.minIdleTime(0).idle(60000), "1-3");
+    }
+
+    @Test
+    public void testXAdd() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testXAdd");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(result[0].stringValue(), "1-1");
+
+        List<StreamMessage<String, String>> entries = redisCommands.xrange("XAddStream", Range.create("-", "+"));
+        Assert.assertEquals(entries.size(), 1);
+        Assert.assertEquals(entries.get(0).getBody().get("field1"), "value1");
+        Assert.assertEquals(entries.get(0).getBody().get("field2"), "value2");
+    }
+
+    @Test
+    public void testXAddWithMaxLength() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testXAddWithMaxLength");
+        Assert.assertEquals(result.length, 1);
+        // Approximate trimming only removes whole macro nodes, so a short stream is not trimmed
+        Assert.assertTrue(((BInteger) result[0]).intValue() >= 2);
+    }
+
+    @Test
+    public void testXRange() {
+        for (int i = 1; i <= 3; i++) {
+            Map<String, String> fields = new HashMap<>();
+            fields.put("index", String.valueOf(i));
+            redisCommands.xadd("XRangeStream", XAddArgs.Builder.id("1-" + i), fields);
+        }
+
+        BValue[] result = BRunUtil.invoke(compileResult, "testXRange");
+        Assert.assertEquals(result.length, 1);
+        BValueArray entries = (BValueArray) result[0];
+        Assert.assertEquals(entries.size(), 2);
+        BMap<String, BValue> first = (BMap<String, BValue>) entries.getRefValue(0);
+        Assert.assertEquals(first.get("id").stringValue(), "1-2");
+        Assert.assertEquals(((BMap<String, BString>) first.get("fields")).get("index").stringValue(), "2");
+        BMap<String, BValue> second = (BMap<String, BValue>) entries.getRefValue(1);
+        Assert.assertEquals(second.get("id").stringValue(), "1-3");
+    }
+
+    @Test
+    public void testXLen() {
+        redisCommands.xadd("XLenStream", "field", "value1");
+        redisCommands.xadd("XLenStream", "field", "value2");
+
+        BValue[] result = BRunUtil.invoke(compileResult, "testXLen");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 2);
+    }
+
+    @Test
+    public void testStreamListener() throws Exception {
+        BRunUtil.invoke(compileResult, "testAddListenerEntries");
+
+        BMap<String, BValue> stats = getStreamListenerStats();
+        for (int i = 0; i < 50 && ((BInteger) stats.get("acknowledged")).intValue() < 2; i++) {
+            Thread.sleep(100);
+            stats = getStreamListenerStats();
+        }
+        BValueArray entries = (BValueArray) BRunUtil.invoke(compileResult, "getReceivedEntries")[0];
+        Assert.assertEquals(new HashSet<>(Arrays.asList(entries.getStringArray())),
+                new HashSet<>(Arrays.asList("entry1", "entry2")));
+        Assert.assertEquals(((BInteger) stats.get("received")).intValue(), 3);
+        Assert.assertEquals(((BInteger) stats.get("acknowledged")).intValue(), 2);
+        Assert.assertEquals(((BInteger) stats.get("failed")).intValue(), 1);
+        // The entry whose processing failed is left pending for a consumer to claim
+        Assert.assertEquals(redisCommands.xpending("ListenerStream", "ListenerGroup").getCount(), 1);
+    }
+
+    @Test
+    public void testClaimIdleEntries() throws Exception {
+        BMap<String, BValue> stats = getClaimListenerStats();
+        for (int i = 0; i < 50 && ((BInteger) stats.get("acknowledged")).intValue() < 1; i++) {
+            Thread.sleep(100);
+            stats = getClaimListenerStats();
+        }
+        BValueArray entries = (BValueArray) BRunUtil.invoke(compileResult, "getClaimedEntries")[0];
+        Assert.assertEquals(entries.getStringArray(), new String[] { "claim3" });
+        Assert.assertEquals(((BInteger) stats.get("claimed")).intValue(), 1);
+        Assert.assertEquals(((BInteger) stats.get("acknowledged")).intValue(), 1);
+        // The entries which are not idle yet stay with their consumer
+        PendingMessages pending = redisCommands.xpending("ClaimStream", "ClaimGroup");
+        Assert.assertEquals(pending.getCount(), 2);
+        Assert.assertEquals(pending.getConsumerMessageCount(), Collections.singletonMap("GoneConsumer", 2L));
+    }
+
+    private BMap<String, BValue> getClaimListenerStats() {
+        return (BMap<String, BValue>) BRunUtil.invoke(compileResult, "getClaimListenerStats")[0];
+    }
+
+    private BMap<String, BValue> getStreamListenerStats() {
+        return (BMap<String, BValue>) BRunUtil.invoke(compileResult, "getStreamListenerStats")[0];
+    }
+}
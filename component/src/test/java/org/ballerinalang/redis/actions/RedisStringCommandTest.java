@@ -26,10 +26,13 @@ import org.ballerinalang.model.values.BFloat;
 import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import java.nio.charset.StandardCharsets;
+
 public class RedisStringCommandTest extends RedisCommandsBaseTest {
     CompileResult compileResult;
 
@@ -245,4 +248,29 @@ public class RedisStringCommandTest extends RedisCommandsBaseTest {
         BValue[] result = BRunUtil.invoke(compileResult, "testGetNilOutput");
         assertNil(result);
     }
+
+    @Test
+    public void testSetGetBytesCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testSetGetBytes");
+        Assert.assertEquals(((BValueArray) result[0]).getBytes(), new byte[] { 0, (byte) 255, (byte) 195, 40 });
+        // The bytes are stored as they are, rather than being transcoded as a string
+        Assert.assertEquals(redisCommands.strlen("testSetBytesKey").longValue(), 4);
+    }
+
+    @Test
+    public void testCodec() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testCodec");
+        byte[] expected = "Ünïcödé".getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(((BValueArray) result[0]).getBytes(), expected);
+        Assert.assertEquals(redisCommands.strlen("testCodecKey").longValue(), expected.length);
+    }
+
+    @Test
+    public void testMGetBytesCommand() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testMGetBytes");
+        BMap<String, BValue> values = (BMap<String, BValue>) result[0];
+        Assert.assertEquals(values.size(), 1);
+        Assert.assertEquals(new String(((BValueArray) values.get("testMGetKey1")).getBytes(), StandardCharsets.UTF_8),
+                "testMGetValue1");
+    }
 }
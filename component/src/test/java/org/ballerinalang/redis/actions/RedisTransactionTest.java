@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.actions;
+
+import org.ballerinalang.launcher.util.BCompileUtil;
+import org.ballerinalang.launcher.util.BRunUtil;
+import org.ballerinalang.launcher.util.CompileResult;
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BMap;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class RedisTransactionTest extends RedisCommandsBaseTest {
+    CompileResult compileResult;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws Exception {
+        compileResult = BCompileUtil.compile("samples/redis-transaction-test.bal");
+    }
+
+    @Test
+    public void testTransactionExec() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testTransactionExec");
+        Assert.assertEquals(result.length, 1);
+        BValueArray replies = (BValueArray) result[0];
+        Assert.assertEquals(replies.size(), 3);
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), "60");
+        Assert.assertEquals(replies.getRefValue(1).stringValue(), OK_RESPONSE);
+        Assert.assertEquals(replies.getRefValue(2).stringValue(), "true");
+    }
+
+    @Test
+    public void testAbortedTransactionExec() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testAbortedTransactionExec");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertNull(result[0]);
+    }
+
+    @Test
+    public void testTransactionDiscard() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testTransactionDiscard");
+        Assert.assertEquals(result.length, 1);
+        Assert.assertNull(result[0]);
+    }
+
+    @Test
+    public void testAbandonedTransaction() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testAbandonedTransaction");
+        Assert.assertEquals(result.length, 2);
+        // Only the second transaction incremented the key
+        BValueArray replies = (BValueArray) result[0];
+        Assert.assertEquals(replies.size(), 1);
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), "2");
+        Assert.assertTrue(result[1].stringValue().contains("timeout"), result[1].stringValue());
+    }
+
+    @Test
+    public void testTransactionExecTimeout() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testTransactionExecTimeout");
+        Assert.assertEquals(result.length, 3);
+        Assert.assertTrue(result[0].stringValue().toLowerCase().contains("timed out"), result[0].stringValue());
+        // The commands of the transaction were executed once the server caught up
+        Assert.assertEquals(result[1].stringValue(), "TransactionValue");
+        BMap<String, BValue> stats = (BMap<String, BValue>) result[2];
+        Assert.assertEquals(((BInteger) stats.get("destroyed")).intValue(), 1);
+        Assert.assertEquals(((BInteger) stats.get("active")).intValue(), 0);
+    }
+
+    @Test
+    public void testTransactionReadFromReplica() throws Exception {
+        BValue[] result = BRunUtil.invoke(compileResult, "testTransactionReadFromReplica");
+        Assert.assertEquals(result.length, 3);
+        Assert.assertEquals(result[0].stringValue(), "TransactionValue");
+        Assert.assertTrue(((BBoolean) result[1]).booleanValue());
+        BValueArray replies = (BValueArray) result[2];
+        Assert.assertEquals(replies.size(), 1);
+        Assert.assertEquals(replies.getRefValue(0).stringValue(), OK_RESPONSE);
+    }
+}
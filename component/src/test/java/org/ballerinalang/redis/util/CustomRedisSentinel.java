@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2018, WSO2 Inc. (http:www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http:www.apache.orglicensesLICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.redis.util;
+
+import redis.embedded.RedisExecProvider;
+import redis.embedded.RedisServer;
+import redis.embedded.util.OS;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link CustomRedisSentinel} runs a Redis executable in sentinel mode, monitoring a single master on the local host.
+ * Sentinel mode requires a writable configuration file, which is created in the temporary directory.
+ */
+public class CustomRedisSentinel extends RedisServer {
+
+    private static final String SENTINEL_READY_PATTERN = ".*Sentinel (ID|runid) is.*";
+
+    public CustomRedisSentinel(String executable, int port, String masterName, int masterPort) throws IOException {
+        super(RedisExecProvider.defaultProvider().override(OS.UNIX, executable), port);
+        File config = File.createTempFile("redis-sentinel-", ".conf");
+        config.deleteOnExit();
+        List<String> lines = Arrays.asList("port " + port,
+                "sentinel monitor " + masterName + " 127.0.0.1 " + masterPort + " 1",
+                "sentinel down-after-milliseconds " + masterName + " 60000");
+        Files.write(config.toPath(), lines, StandardCharsets.UTF_8);
+        args = Arrays.asList(args.get(0), config.getAbsolutePath(), "--sentinel");
+    }
+
+    protected String redisReadyPattern() {
+        return SENTINEL_READY_PATTERN;
+    }
+}
@@ -23,6 +23,9 @@ import redis.embedded.RedisServer;
 import redis.embedded.util.OS;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * {@link CustomRedisServer} was written because in {@link RedisServer} {@link #redisReadyPattern()} returns the
@@ -38,6 +41,13 @@ public class CustomRedisServer extends RedisServer {
         super(RedisExecProvider.defaultProvider().override(OS.UNIX, executable), port);
     }
 
+    public CustomRedisServer(String executable, Integer port, String... settings) throws IOException {
+        this(executable, port);
+        List<String> arguments = new ArrayList<>(args);
+        arguments.addAll(Arrays.asList(settings));
+        args = arguments;
+    }
+
     protected String redisReadyPattern() {
         return REDIS_READY_PATTERN;
     }
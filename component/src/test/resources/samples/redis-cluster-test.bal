@@ -0,0 +1,49 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import wso2/redis;
+
+final string CLUSTER_HOST = "localhost:7000";
+
+function testTopologyChanges() returns (int|error) {
+    redis:Client conn = new({
+        host: CLUSTER_HOST,
+        password: "",
+        options: { isClusterConnection: true, clusterConfig: { refreshPeriod: 200 } }
+    });
+    // Waits for the test to assign the last slot of the cluster
+    _ = check conn->bLPop(10, ["{topology}signal"]);
+    redis:ClusterStats stats = conn->getClusterStats();
+    int attempts = 0;
+    while (stats.topologyChanges == 0 && attempts < 20) {
+        _ = check conn->bLPop(1, ["{topology}wait"]);
+        stats = conn->getClusterStats();
+        attempts += 1;
+    }
+    conn.stop();
+    return stats.topologyChanges;
+}
+
+function testClusterScriptLoad(string script) returns (string|error) {
+    redis:Client conn = new({
+        host: CLUSTER_HOST,
+        password: "",
+        options: { isClusterConnection: true }
+    });
+    var digest = conn->scriptLoad(script);
+    conn.stop();
+    return digest;
+}
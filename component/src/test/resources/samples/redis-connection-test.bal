@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/runtime;
 import wso2/redis;
 
 final string REDIS_HOST = "localhost";
@@ -74,3 +75,265 @@ function testConnectionRelease() returns (string) {
     return retVal;
 }
 
+function testAsyncMode() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { asyncMode: true }
+    });
+    _ = check conn->setVal("AsyncModeKey", "AsyncModeValue");
+    var result = conn->get("AsyncModeKey");
+    conn.stop();
+    return result;
+}
+
+function testAsyncModeInFlight() returns (string?|error, map<any>?|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { asyncMode: true, clientName: "AsyncModeClient" }
+    });
+    future<map<any>?|error> popped = start conn->bLPop(10, ["AsyncModeListKey"]);
+    // The test sets the signal once the pop is blocked on the server, so the signal is only seen if the client keeps
+    // serving commands while the pop is in flight
+    string?|error signal = ();
+    int i = 0;
+    while (i < 50) {
+        signal = conn->get("AsyncModeSignalKey");
+        if (signal is string) {
+            break;
+        }
+        runtime:sleep(100);
+        i += 1;
+    }
+    _ = check conn->lPush("AsyncModeListKey", ["AsyncModeListValue"]);
+    var result = wait popped;
+    conn.stop();
+    return (signal, result);
+}
+
+function testAsyncModeError() returns (string) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { asyncMode: true, connectionPooling: true, poolConfig: { maxTotal: 1, maxWait: 200 } }
+    });
+    // The transaction holds the only connection of the pool, so the ping fails to borrow one
+    redis:Transaction tx = checkpanic conn->multi();
+    var result = conn->ping();
+    string retVal = "";
+    if (result is string) {
+        retVal = result;
+    } else {
+        retVal = <string>result.detail().message;
+    }
+    _ = tx.discard();
+    conn.stop();
+    return retVal;
+}
+
+function testPoolConfig() returns (string, redis:PoolStats) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true, poolConfig: { maxTotal: 2, maxIdle: 2, maxWait: 200,
+            testOnBorrow: true, lifo: false } }
+    });
+    // Eviction is left disabled so that only the transactions below change the number of connections.
+    // A transaction holds its pooled connection until it is discarded, so two of them exhaust the pool
+    redis:Transaction t1 = checkpanic conn->multi();
+    redis:Transaction t2 = checkpanic conn->multi();
+    var exhausted = conn->multi();
+    string message = "";
+    if (exhausted is error) {
+        message = <string>exhausted.detail().message;
+    } else {
+        _ = exhausted.discard();
+    }
+    _ = t1.discard();
+    redis:Transaction t3 = checkpanic conn->multi();
+    _ = t2.discard();
+    _ = t3.discard();
+    redis:PoolStats stats = conn->getPoolStats();
+    conn.stop();
+    return (message, stats);
+}
+
+function testMultiplexedConnections() returns (any|error, any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { clientName: "MultiplexedClient", multiplexedConnections: 2,
+            connectionSelection: redis:ROUND_ROBIN }
+    });
+    _ = check conn->setVal("MultiplexedKey", "MultiplexedValue");
+    var result = conn->get("MultiplexedKey");
+    // Keeps the client open until the connections have been inspected
+    var signal = conn->bLPop(10, ["MultiplexedSignalKey"]);
+    conn.stop();
+    return (result, signal);
+}
+
+function testAutoBatching() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { batchConfig: { enabled: true, maxSize: 8, window: 50 } }
+    });
+    // Each of these commands waits for the reply of the one before, so each is flushed on its own
+    _ = check conn->setVal("AutoBatchingKey", "AutoBatchingValue");
+    _ = check conn->get("AutoBatchingKey");
+    _ = check conn->ping();
+    // These are issued concurrently within a batch window, and are flushed together
+    future<string?|error>[] replies = [];
+    int i = 0;
+    while (i < 8) {
+        replies[i] = start conn->get("AutoBatchingKey");
+        i += 1;
+    }
+    foreach var reply in replies {
+        _ = check wait reply;
+    }
+    redis:BatchStats stats = conn->getBatchStats();
+    conn.stop();
+    return stats;
+}
+
+function testCompression() returns (any|error, any|error, any|error, any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { compressionConfig: { enabled: true, threshold: 64, level: 6 } }
+    });
+    string value = "";
+    int i = 0;
+    while (i < 256) {
+        value = value + "CompressionValue";
+        i += 1;
+    }
+    _ = check conn->setVal("CompressionKey", value);
+    // A value below the threshold is stored as it is
+    _ = check conn->setVal("CompressionSmallKey", "CompressionValue");
+    // Members are compared by the server, so they and the pivots they are compared with are not compressed
+    _ = check conn->sAdd("CompressionSetKey", [value]);
+    _ = check conn->lPush("CompressionListKey", [value]);
+    var result = conn->get("CompressionKey");
+    var smallResult = conn->get("CompressionSmallKey");
+    var memberResult = conn->sIsMember("CompressionSetKey", value);
+    var insertResult = conn->lInsert("CompressionListKey", true, value, "CompressionValue");
+    conn.stop();
+    return (result, smallResult, memberResult, insertResult);
+}
+
+function testReadFrom() returns (any|error, any|error, any|error) {
+    redis:Client preferredConn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { readFrom: redis:REPLICA_PREFERRED }
+    });
+    redis:Client replicaConn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { readFrom: redis:REPLICA, asyncMode: true }
+    });
+    // Writes always go to the master. Reads fall back to the master when replicas are only preferred, and fail when
+    // replicas are required since the server has none
+    _ = check replicaConn->setVal("ReadFromKey", "ReadFromValue");
+    var preferredResult = preferredConn->get("ReadFromKey");
+    var replicaResult = replicaConn->get("ReadFromKey");
+    var masterResult = replicaConn->setVal("ReadFromKey", "ReadFromNewValue");
+    preferredConn.stop();
+    replicaConn.stop();
+    return (preferredResult, replicaResult, masterResult);
+}
+
+function testSharedResources() returns (any|error, int) {
+    redis:Client conn1 = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { resourcesConfig: { shared: true, ioThreadPoolSize: 2, computationThreadPoolSize: 2 } }
+    });
+    redis:Client conn2 = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { resourcesConfig: { shared: true } }
+    });
+    _ = conn1->ping();
+    _ = conn1->ping();
+    _ = conn1->ping();
+    conn1.stop();
+    var result = conn2->ping();
+    // The latencies are recorded by the shared resources, so the pings of both clients are reported
+    redis:CommandMetrics metrics = conn2->getCommandMetrics();
+    int count = 0;
+    foreach var latency in metrics.latencies {
+        if (latency.command == "PING") {
+            count += latency.count;
+        }
+    }
+    conn2.stop();
+    return (result, count);
+}
+
+function testCommandMetrics() returns (int, map<int>, string) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { asyncMode: true }
+    });
+    _ = conn->ping();
+    _ = conn->ping();
+    // Both commands fail with a WRONGTYPE error, and are counted under the command types they are issued as. The
+    // async mode returns the failures as errors
+    _ = conn->hSet("testMetricsHashKey", "testField", "testValue");
+    _ = conn->strln("testMetricsHashKey");
+    _ = conn->getBytes("testMetricsHashKey");
+    redis:CommandMetrics metrics = conn->getCommandMetrics();
+    int count = 0;
+    foreach var latency in metrics.latencies {
+        if (latency.command == "PING") {
+            count += latency.count;
+        }
+    }
+    string prometheusMetrics = conn->getPrometheusMetrics();
+    conn.stop();
+    return (count, metrics.errors, prometheusMetrics);
+}
+
+function testPoolStats() returns (redis:PoolStats, redis:PoolStats, redis:PoolStats) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true, poolConfig: { maxTotal: 1, maxWait: 10000,
+            borrowWaitWarningThreshold: 100 } }
+    });
+    // The transaction holds the only connection of the pool, so the ping waits until it is discarded
+    redis:Transaction tx = checkpanic conn->multi();
+    redis:PoolStats borrowedStats = conn->getPoolStats();
+    future<string|error> ping = start conn->ping();
+    redis:PoolStats waitingStats = conn->getPoolStats();
+    int attempts = 0;
+    while (waitingStats.waiters == 0 && attempts < 250) {
+        runtime:sleep(20);
+        waitingStats = conn->getPoolStats();
+        attempts += 1;
+    }
+    // The ping is waiting by now, so holding the connection past the threshold makes its borrow a slow one
+    runtime:sleep(150);
+    _ = tx.discard();
+    _ = wait ping;
+    redis:PoolStats releasedStats = conn->getPoolStats();
+    conn.stop();
+    return (borrowedStats, waitingStats, releasedStats);
+}
+
+function testUnixSocket(string socketPath) returns (any|error) {
+    redis:Client conn = new({
+        host: socketPath,
+        password: "",
+        options: { clientName: "UnixSocketClient" }
+    });
+    var result = conn->bLPop(10, ["UnixSocketKey"]);
+    conn.stop();
+    return result;
+}
@@ -173,3 +173,55 @@ function testHVals() returns (any|error) {
     conn.stop();
     return result;
 }
+
+function testHSetGetBytes() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    byte[] value = [0, 255, 195, 40];
+    _ = check conn->hSetBytes("testHSetBytesKey", "testHSetBytesField", value);
+    var result = conn->hGetBytes("testHSetBytesKey", "testHSetBytesField");
+    conn.stop();
+    return result;
+}
+
+function testHScan() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    map<string> entries = {};
+    string cursor = "0";
+    boolean finished = false;
+    while (!finished) {
+        redis:HashScanResult result = check conn->hScan("testHScanKey", cursor, { count: 2 });
+        foreach var (field, value) in result.entries {
+            entries[field] = value;
+        }
+        cursor = result.cursor;
+        finished = result.finished;
+    }
+    conn.stop();
+    return entries;
+}
+
+function testHScanIterator() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:HashScanIterator iterator = conn.hScanIterator("testHScanIteratorKey", options = { count: 2 });
+    map<string> entries = {};
+    while (iterator.hasNext()) {
+        map<string> batch = check iterator.next();
+        foreach var (field, value) in batch {
+            entries[field] = value;
+        }
+    }
+    conn.stop();
+    return entries;
+}
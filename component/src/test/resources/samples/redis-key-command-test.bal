@@ -185,3 +185,31 @@ function testType() returns (any|error) {
     return result;
 }
 
+function testDump() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var result = conn->dump("testDumpKey");
+    conn.stop();
+    return result;
+}
+
+function testScan() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:ScanIterator iterator = conn.scanIterator(options = { match: "testScanKey*", count: 2 });
+    string[] keys = [];
+    while (iterator.hasNext()) {
+        string[] batch = check iterator.next();
+        foreach var key in batch {
+            keys[keys.length()] = key;
+        }
+    }
+    conn.stop();
+    return keys;
+}
@@ -62,6 +62,28 @@ function testBRPopNilOutput() returns (map<any>?|error) {
     return result;
 }
 
+function testBRPopLPush() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var result = conn->bRPopLPush(1, "testBRPopLPushKey1", "testBRPopLPushKey2");
+    conn.stop();
+    return result;
+}
+
+function testBRPopLPushNilOutput() returns (string?|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var result = conn->bRPopLPush(1, "testBRPopLPushKeyNonExistent", "testBRPopLPushKey2");
+    conn.stop();
+    return result;
+}
+
 function testLIndex() returns (any|error) {
     redis:Client conn = new({
         host: REDIS_HOST,
@@ -150,6 +172,17 @@ function testLRange() returns (any|error) {
     return result;
 }
 
+function testLRangeLargeReply() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var result = conn->lRange("testLRangeLargeKey", 0, -1);
+    conn.stop();
+    return result;
+}
+
 function testLRem() returns (any|error) {
     redis:Client conn = new({
         host: REDIS_HOST,
@@ -239,3 +272,21 @@ function testRPushX() returns (any|error) {
     return result;
 
 }
+
+function testBlockingCommandIsolation() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { clientName: "BlockingLaneClient" }
+    });
+    future<map<any>?|error> popped = start conn->bLPop(10, ["testBlockingLaneKey"]);
+    // The shared connection keeps serving commands while the BLPOP waits, until the test signals
+    string? signal = check conn->get("testBlockingLaneSignal");
+    while (signal is ()) {
+        signal = check conn->get("testBlockingLaneSignal");
+    }
+    _ = check conn->lPush("testBlockingLaneKey", ["testBlockingLaneValue"]);
+    var result = wait popped;
+    conn.stop();
+    return result;
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import wso2/redis;
+
+final string REDIS_HOST = "localhost";
+
+function testPipelineFlush() returns (any[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true }
+    });
+    redis:Pipeline pipeline = check conn->pipeline();
+    string[] keys = ["PipelineKey1", "PipelineKey2", "PipelineKey3"];
+    foreach var key in keys {
+        pipeline.setVal(key, "PipelineValue");
+    }
+    pipeline.get("PipelineKey2");
+    pipeline.incr("PipelineCounter");
+    pipeline.hSet("PipelineHash", "field", "PipelineHashValue");
+    pipeline.hGet("PipelineHash", "field");
+    pipeline.get("PipelineNonExistentKey");
+    var result = pipeline.flush();
+    pipeline.close();
+    conn.stop();
+    return result;
+}
+
+function testEmptyPipelineFlush() returns (any[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:Pipeline pipeline = check conn->pipeline();
+    var result = pipeline.flush();
+    pipeline.close();
+    conn.stop();
+    return result;
+}
+
+function testPipelineDeferredWrites() returns (any|error, any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:Pipeline pipeline = check conn->pipeline();
+    pipeline.setVal("PipelineDeferredKey", "PipelineDeferredValue");
+    // The queued command has not been written yet, so the client does not see its value until the flush
+    var before = conn->get("PipelineDeferredKey");
+    _ = check pipeline.flush();
+    var after = conn->get("PipelineDeferredKey");
+    pipeline.close();
+    conn.stop();
+    return (before, after);
+}
+
+function testPipelineFailedCommand() returns (any[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:Pipeline pipeline = check conn->pipeline();
+    pipeline.setVal("PipelineFailureKey", "PipelineFailureValue");
+    // Fails since the value is not an integer, while the commands around it are applied
+    pipeline.incr("PipelineFailureKey");
+    pipeline.setVal("PipelineFailureOtherKey", "PipelineFailureOtherValue");
+    var result = pipeline.flush();
+    pipeline.close();
+    conn.stop();
+    return result;
+}
+
+function testPipelineClosedWithClient() returns (any[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { clientName: "PipelineClient" }
+    });
+    redis:Pipeline pipeline = check conn->pipeline();
+    pipeline.setVal("PipelineClosedKey", "PipelineClosedValue");
+    var result = pipeline.flush();
+    // The pipeline is not closed, so its connection is closed when the client is stopped
+    conn.stop();
+    return result;
+}
@@ -0,0 +1,58 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import wso2/redis;
+
+final string REDIS_HOST = "localhost";
+
+listener redis:Listener pubSubListener = new({
+    host: REDIS_HOST,
+    password: "",
+    dispatchConfig: { maxConcurrentDispatches: 1 }
+});
+
+string[] receivedMessages = [];
+
+@redis:ServiceConfig {
+    channels: ["PubSubChannel"],
+    patterns: ["PubSubPattern.*"]
+}
+service pubSubService on pubSubListener {
+    resource function onMessage(redis:Message message) {
+        receivedMessages[receivedMessages.length()] = message.channel + "|" + message.pattern + "|" + message.message;
+    }
+}
+
+function testPublish() returns (int|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    int receivers = check conn->publish("PubSubChannel", "ChannelMessage");
+    receivers += check conn->publish("PubSubPattern.news", "PatternMessage");
+    _ = check conn->publish("PubSubOtherChannel", "OtherMessage");
+    conn.stop();
+    return receivers;
+}
+
+function getReceivedMessages() returns string[] {
+    return receivedMessages;
+}
+
+function getListenerStats() returns redis:ListenerStats {
+    return pubSubListener.getStats();
+}
@@ -0,0 +1,77 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import wso2/redis;
+
+final string REDIS_HOST = "localhost";
+
+final string TRANSFER_SCRIPT = "local balance = tonumber(redis.call('GET', KEYS[1])) - tonumber(ARGV[1]) " +
+    "redis.call('SET', KEYS[1], balance) return {balance, redis.call('INCRBY', KEYS[2], ARGV[1])}";
+
+redis:Client scriptingConn = new({
+    host: REDIS_HOST,
+    password: "",
+    options: { connectionPooling: true }
+});
+
+function testEval() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    _ = check conn->setVal("ScriptingSource", "100");
+    _ = check conn->setVal("ScriptingDestination", "10");
+    var result = conn->eval(TRANSFER_SCRIPT, keys = ["ScriptingSource", "ScriptingDestination"], args = ["40"]);
+    conn.stop();
+    return result;
+}
+
+function testEvalStatusAndNil() returns (any[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var status = check conn->eval("return redis.call('SET', KEYS[1], ARGV[1])", keys = ["ScriptingKey"],
+        args = ["ScriptingValue"]);
+    var nilReply = check conn->eval("return redis.call('GET', KEYS[1])", keys = ["ScriptingNonExistentKey"]);
+    conn.stop();
+    return [status, nilReply];
+}
+
+function testScriptLoad() returns (string|error) {
+    return scriptingConn->scriptLoad("return ARGV[1] .. ARGV[2]");
+}
+
+function testEvalSha(string sha1) returns (any|error) {
+    return scriptingConn->evalSha(sha1, args = ["Ballerina", "Redis"]);
+}
+
+function testEvalRegisteredScript() returns (any|error) {
+    return scriptingConn->eval("return ARGV[1] .. ARGV[2]", args = ["Registered", "Script"]);
+}
+
+function testScriptsOption() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { scripts: ["return #KEYS"] }
+    });
+    var result = conn->evalSha("cb35aa5ca859d59b3e50fa6f9efbe7e14b5215dd", keys = ["a", "b"]);
+    conn.stop();
+    return result;
+}
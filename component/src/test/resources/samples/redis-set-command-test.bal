@@ -171,3 +171,21 @@ function testSUnionStore() returns (any|error) {
     conn.stop();
     return result;
 }
+
+function testSScan() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:ScanIterator iterator = conn.sScanIterator("testSScanKey", options = { match: "testSScanValue*" });
+    string[] members = [];
+    while (iterator.hasNext()) {
+        string[] batch = check iterator.next();
+        foreach var member in batch {
+            members[members.length()] = member;
+        }
+    }
+    conn.stop();
+    return members;
+}
@@ -238,3 +238,42 @@ function testZUnionStore() returns (any|error) {
     conn.stop();
     return result;
 }
+
+function testZScan() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    map<float> entries = {};
+    string cursor = "0";
+    boolean finished = false;
+    while (!finished) {
+        redis:SortedSetScanResult result = check conn->zScan("testZScanKey", cursor, { match: "a*" });
+        foreach var (member, score) in result.entries {
+            entries[member] = score;
+        }
+        cursor = result.cursor;
+        finished = result.finished;
+    }
+    conn.stop();
+    return entries;
+}
+
+function testZScanIterator() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:SortedSetScanIterator iterator = conn.zScanIterator("testZScanIteratorKey", options = { match: "a*" });
+    map<float> entries = {};
+    while (iterator.hasNext()) {
+        map<float> batch = check iterator.next();
+        foreach var (member, score) in batch {
+            entries[member] = score;
+        }
+    }
+    conn.stop();
+    return entries;
+}
@@ -0,0 +1,153 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import wso2/redis;
+
+final string REDIS_HOST = "localhost";
+
+listener redis:StreamListener streamListener = new({
+    host: REDIS_HOST,
+    password: "",
+    batchSize: 2,
+    blockTime: 100
+});
+
+string[] receivedEntries = [];
+
+@redis:StreamServiceConfig {
+    stream: "ListenerStream",
+    group: "ListenerGroup",
+    consumer: "ListenerConsumer",
+    startId: "0"
+}
+service streamService on streamListener {
+    resource function onEntry(redis:StreamEntry entry) returns error? {
+        string value = entry.fields["value"] ?: "";
+        if (value == "fail") {
+            error err = error("Entry " + entry.id + " could not be processed");
+            return err;
+        }
+        lock {
+            receivedEntries[receivedEntries.length()] = value;
+        }
+        return ();
+    }
+}
+
+// Looks up idle entries every 100 ms, while the entries of the test which must not be claimed stay well below the
+// minimum idle time
+listener redis:StreamListener claimListener = new({
+    host: REDIS_HOST,
+    password: "",
+    batchSize: 2,
+    blockTime: 100,
+    claimMinIdleTime: 30000,
+    claimInterval: 100
+});
+
+string[] claimedEntries = [];
+
+@redis:StreamServiceConfig {
+    stream: "ClaimStream",
+    group: "ClaimGroup",
+    consumer: "ClaimConsumer",
+    startId: "0"
+}
+service claimService on claimListener {
+    resource function onEntry(redis:StreamEntry entry) returns error? {
+        lock {
+            claimedEntries[claimedEntries.length()] = entry.fields["value"] ?: "";
+        }
+        return ();
+    }
+}
+
+function testXAdd() returns (string|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    string result = check conn->xAdd("XAddStream", { "field1": "value1", "field2": "value2" }, id = "1-1");
+    conn.stop();
+    return result;
+}
+
+function testXAddWithMaxLength() returns (int|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    foreach int i in 1...5 {
+        string index = string.convert(i);
+        _ = check conn->xAdd("XAddTrimmedStream", { "index": index }, id = "1-" + index, maxLength = 2);
+    }
+    int result = check conn->xLen("XAddTrimmedStream");
+    conn.stop();
+    return result;
+}
+
+function testXRange() returns (redis:StreamEntry[]|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:StreamEntry[] result = check conn->xRange("XRangeStream", startId = "1-2", count = 2);
+    conn.stop();
+    return result;
+}
+
+function testXLen() returns (int|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    int result = check conn->xLen("XLenStream");
+    conn.stop();
+    return result;
+}
+
+function testAddListenerEntries() returns error? {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    _ = check conn->xAdd("ListenerStream", { "value": "entry1" });
+    _ = check conn->xAdd("ListenerStream", { "value": "fail" });
+    _ = check conn->xAdd("ListenerStream", { "value": "entry2" });
+    conn.stop();
+    return ();
+}
+
+function getReceivedEntries() returns string[] {
+    return receivedEntries;
+}
+
+function getStreamListenerStats() returns redis:StreamListenerStats {
+    return streamListener.getStats();
+}
+
+function getClaimedEntries() returns string[] {
+    return claimedEntries;
+}
+
+function getClaimListenerStats() returns redis:StreamListenerStats {
+    return claimListener.getStats();
+}
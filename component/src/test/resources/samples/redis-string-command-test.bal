@@ -322,5 +322,38 @@ function testStrln() returns (any|error) {
     return result;
 }
 
+function testSetGetBytes() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    byte[] value = [0, 255, 195, 40];
+    _ = check conn->setBytes("testSetBytesKey", value);
+    var result = conn->getBytes("testSetBytesKey");
+    conn.stop();
+    return result;
+}
 
+function testCodec() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { codec: redis:UTF8_STRING_CODEC }
+    });
+    _ = check conn->setVal("testCodecKey", "Ünïcödé");
+    var result = conn->getBytes("testCodecKey");
+    conn.stop();
+    return result;
+}
 
+function testMGetBytes() returns (any|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    var result = conn->mGetBytes(["testMGetKey1", "testMGetBytesNonExistentKey"]);
+    conn.stop();
+    return result;
+}
@@ -0,0 +1,142 @@
+// Copyright (c) 2018 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+import wso2/redis;
+
+final string REDIS_HOST = "localhost";
+
+function testTransactionExec() returns (any[]?|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true }
+    });
+    _ = check conn->setVal("TransactionBalance", "100");
+    redis:Transaction redisTransaction = check conn->multi(watchedKeys = ["TransactionBalance"]);
+    _ = check redisTransaction.get("TransactionBalance");
+    redisTransaction.decrBy("TransactionBalance", 40);
+    redisTransaction.setVal("TransactionLastTransfer", "40");
+    redisTransaction.hSet("TransactionHash", "field", "TransactionHashValue");
+    var result = redisTransaction.exec();
+    conn.stop();
+    return result;
+}
+
+function testAbortedTransactionExec() returns (any[]?|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    _ = check conn->setVal("TransactionWatchedKey", "1");
+    redis:Transaction redisTransaction = check conn->multi(watchedKeys = ["TransactionWatchedKey"]);
+    _ = check conn->setVal("TransactionWatchedKey", "2");
+    redisTransaction.incr("TransactionWatchedKey");
+    var result = redisTransaction.exec();
+    conn.stop();
+    return result;
+}
+
+function testTransactionDiscard() returns (string?|error) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true }
+    });
+    redis:Transaction redisTransaction = check conn->multi();
+    redisTransaction.setVal("TransactionDiscardedKey", "TransactionValue");
+    check redisTransaction.discard();
+    var result = conn->get("TransactionDiscardedKey");
+    conn.stop();
+    return result;
+}
+
+function testAbandonedTransaction() returns (any[]?|error, string) {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { blockingConfig: { maxConnections: 1, maxWait: 5000 } }
+    });
+    _ = check conn->setVal("TransactionAbandonedKey", "1");
+    redis:Transaction abandoned = check conn->multi(watchedKeys = ["TransactionAbandonedKey"], timeout = 300);
+    abandoned.incr("TransactionAbandonedKey");
+    // The transaction holds the only connection of the blocking lane, which is closed once the transaction times
+    // out, so this transaction waits for a new connection instead of reusing one still watching the key
+    redis:Transaction redisTransaction = check conn->multi(watchedKeys = ["TransactionAbandonedKey"]);
+    redisTransaction.incr("TransactionAbandonedKey");
+    var result = redisTransaction.exec();
+    string abandonedError = "";
+    var abandonedResult = abandoned.exec();
+    if (abandonedResult is error) {
+        abandonedError = <string>abandonedResult.detail().message;
+    }
+    conn.stop();
+    return (result, abandonedError);
+}
+
+function testTransactionExecTimeout() returns (string, string?, redis:PoolStats)|error {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { connectionPooling: true, connectionTimeout: 500 }
+    });
+    redis:Client busyConn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: {}
+    });
+    redis:Transaction redisTransaction = check conn->multi();
+    redisTransaction.setVal("TransactionTimedOutKey", "TransactionValue");
+    // Keeps the server busy for 1.5 seconds, so that the reply of EXEC is not received within the timeout
+    string script = "local t = redis.call('TIME') local deadline = t[1] * 1000000 + t[2] + 1500000 " +
+        "repeat t = redis.call('TIME') until t[1] * 1000000 + t[2] >= deadline return 1";
+    future<any|error> busy = start busyConn->eval(script);
+    runtime:sleep(200);
+    string execError = "";
+    var result = redisTransaction.exec();
+    if (result is error) {
+        execError = <string>result.detail().message;
+    }
+    _ = wait busy;
+    busyConn.stop();
+    // The connection of the timed out transaction is closed rather than handed out again, as it may still be in
+    // the transaction
+    var value = check conn->get("TransactionTimedOutKey");
+    redis:PoolStats stats = conn->getPoolStats();
+    conn.stop();
+    return (execError, value, stats);
+}
+
+function testTransactionReadFromReplica() returns (string?, boolean, any[]?|error)|error {
+    redis:Client conn = new({
+        host: REDIS_HOST,
+        password: "",
+        options: { readFrom: redis:REPLICA, asyncMode: true }
+    });
+    // The server has no replicas, so reads outside of a transaction fail, while the reads of a transaction are sent
+    // to the master it watches the keys on. The async mode returns the failed read as an error
+    var clientRead = conn->get("TransactionReplicaKey");
+    redis:Transaction redisTransaction = check conn->multi(watchedKeys = ["TransactionReplicaKey"]);
+    _ = check redisTransaction.get("TransactionReplicaKey");
+    redisTransaction.setVal("TransactionReplicaKey", "TransactionValue");
+    var result = redisTransaction.exec();
+    redis:Transaction reader = check conn->multi();
+    string? value = check reader.get("TransactionReplicaKey");
+    check reader.discard();
+    conn.stop();
+    return (value, clientRead is error, result);
+}